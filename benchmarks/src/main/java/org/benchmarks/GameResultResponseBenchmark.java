@@ -0,0 +1,46 @@
+package org.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.model.Score;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.GameSequenceProcessor;
+import org.infrastructure.web.response.GameResultResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameResultResponseBenchmark {
+
+    @Param({"SHORT_WIN", "DEUCE_WIN", "LONG_DEUCE"})
+    private Sequences input;
+
+    private GameResult gameResult;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setup
+    public void setUp() {
+        String sequence = input.sequence();
+        gameResult = new GameResult(sequence, new GameSequenceProcessor().processGameSequence(sequence));
+    }
+
+    @Benchmark
+    public void writeJson() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), GameResultResponse.of(gameResult));
+    }
+
+    @Benchmark
+    public void formatScores(Blackhole blackhole) {
+        for (Score score : gameResult.scores()) {
+            blackhole.consume(GameResultResponse.formatScore(score));
+        }
+    }
+}
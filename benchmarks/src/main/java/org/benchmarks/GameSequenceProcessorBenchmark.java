@@ -0,0 +1,38 @@
+package org.benchmarks;
+
+import org.domain.exception.GameStateException;
+import org.domain.exception.InvalidSequenceException;
+import org.domain.usecase.GameSequenceProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSequenceProcessorBenchmark {
+
+    @Param({"SHORT_WIN", "DEUCE_WIN", "LONG_DEUCE", "INVALID_CHARACTER", "INVALID_PLAYERS"})
+    private Sequences input;
+
+    private GameSequenceProcessor processor;
+    private String sequence;
+
+    @Setup
+    public void setUp() {
+        processor = new GameSequenceProcessor();
+        sequence = input.sequence();
+    }
+
+    @Benchmark
+    public Object processGameSequence() {
+        try {
+            return processor.processGameSequence(sequence);
+        } catch (InvalidSequenceException | GameStateException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.benchmarks;
+
+import org.domain.model.MatchEngine;
+import org.domain.model.MatchFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per point cost of the match state machine over a long five set match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(MatchEngineBenchmark.POINTS)
+public class MatchEngineBenchmark {
+
+    static final int POINTS = 1 << 16;
+
+    private final MatchEngine engine = new MatchEngine(new MatchFormat(5, true, false));
+    private final int[] scorers = new int[POINTS];
+
+    @Setup
+    public void setUp() {
+        // a balanced match keeps going through deuces, tie-breaks and a long final set
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < POINTS; i++) {
+            scorers[i] = random.nextInt(2);
+        }
+    }
+
+    @Benchmark
+    public long scorePoints() {
+        long state = MatchEngine.INITIAL;
+        for (int scorer : scorers) {
+            state = engine.next(state, scorer);
+            if (MatchEngine.isFinished(state)) {
+                state = MatchEngine.INITIAL;
+            }
+        }
+        return state;
+    }
+}
@@ -0,0 +1,55 @@
+package org.benchmarks;
+
+import org.domain.model.PackedGameEvaluator;
+import org.domain.model.Score;
+import org.domain.usecase.GameSequenceProcessor;
+import org.domain.usecase.PackedSequence;
+import org.domain.usecase.SequenceParser;
+import org.domain.usecase.SequencePlayers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Winner-only evaluation of a valid sequence, point by point through the game versus a byte of packed points
+ * per lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackedGameEvaluatorBenchmark {
+
+    @Param({"SHORT_WIN", "DEUCE_WIN", "LONG_DEUCE"})
+    private Sequences input;
+
+    private GameSequenceProcessor processor;
+    private String sequence;
+    private SequencePlayers players;
+    private PackedSequence packed;
+    private Score last;
+
+    @Setup
+    public void setUp() {
+        processor = new GameSequenceProcessor();
+        sequence = input.sequence();
+        players = SequenceParser.parse(sequence);
+        packed = PackedSequence.pack(sequence);
+    }
+
+    @Benchmark
+    public Score scoreByPoint() {
+        processor.processGameSequence(sequence, players, score -> {
+            last = score;
+            return true;
+        });
+        return last;
+    }
+
+    @Benchmark
+    public PackedGameEvaluator.Evaluation evaluatePacked() {
+        return PackedGameEvaluator.evaluate(packed.points(), packed.length());
+    }
+}
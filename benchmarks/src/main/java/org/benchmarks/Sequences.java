@@ -0,0 +1,22 @@
+package org.benchmarks;
+
+/**
+ * Inputs shared by the benchmarks, from the cheapest game to the pathological deuce rallies.
+ */
+public enum Sequences {
+    SHORT_WIN("ABAAA"),
+    DEUCE_WIN("ABABABAA"),
+    LONG_DEUCE("ABABAB" + "AB".repeat(5_000) + "AA"),
+    INVALID_CHARACTER("ABAB1A"),
+    INVALID_PLAYERS("ABCABC");
+
+    private final String sequence;
+
+    Sequences(String sequence) {
+        this.sequence = sequence;
+    }
+
+    public String sequence() {
+        return sequence;
+    }
+}
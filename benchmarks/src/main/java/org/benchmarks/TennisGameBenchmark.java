@@ -0,0 +1,46 @@
+package org.benchmarks;
+
+import org.domain.model.Player;
+import org.domain.model.Score;
+import org.domain.model.TennisGame;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TennisGameBenchmark {
+
+    private static final Player PLAYER_A = new Player('A');
+    private static final Player PLAYER_B = new Player('B');
+
+    @Param({"SHORT_WIN", "DEUCE_WIN", "LONG_DEUCE"})
+    private Sequences input;
+
+    private Player[] points;
+
+    @Setup
+    public void setUp() {
+        String sequence = input.sequence();
+        points = new Player[sequence.length()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = sequence.charAt(i) == 'A' ? PLAYER_A : PLAYER_B;
+        }
+    }
+
+    @Benchmark
+    public Score addPoint(Blackhole blackhole) {
+        TennisGame game = new TennisGame(PLAYER_A, PLAYER_B);
+        Score score = null;
+        for (Player point : points) {
+            score = game.addPoint(point);
+            blackhole.consume(score);
+        }
+        return score;
+    }
+}
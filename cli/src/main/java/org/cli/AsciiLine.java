@@ -0,0 +1,51 @@
+package org.cli;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable {@link CharSequence} view over one line of a byte buffer, so sequences are scored straight from
+ * the mapped file without decoding them to strings. Bytes outside of ASCII are exposed as
+ * {@code U+FFFD} and therefore rejected as invalid characters.
+ */
+final class AsciiLine implements CharSequence {
+
+    private static final char REPLACEMENT = '�';
+
+    private final ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    AsciiLine(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    AsciiLine reset(int offset, int length) {
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        byte b = buffer.get(offset + index);
+        return b >= 0 ? (char) b : REPLACEMENT;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new AsciiLine(buffer).reset(offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,113 @@
+package org.cli;
+
+import org.domain.usecase.GameSequenceProcessor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores a file of sequences, one per line, into a file with one result line per input line.
+ * <p>
+ * The input is cut into chunks ending on a line break, each chunk is memory-mapped and scored on its own
+ * thread, and the chunk results are appended to the output in input order. At most two chunks per thread
+ * are in flight, which keeps every core busy while bounding the memory held by pending results.
+ */
+public class BulkScorer {
+
+    private static final int BOUNDARY_SCAN_SIZE = 8 << 10;
+
+    private final GameSequenceProcessor processor;
+
+    public BulkScorer(GameSequenceProcessor processor) {
+        this.processor = processor;
+    }
+
+    public BulkScoringSummary score(BulkScoringOptions options) throws IOException {
+        BulkScoringSummary summary = new BulkScoringSummary(0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads(), runnable -> {
+            Thread thread = new Thread(runnable, "bulk-scorer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel input = FileChannel.open(options.input(), StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(options.output(), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Deque<Future<ChunkScorer.Result>> pending = new ArrayDeque<>();
+            long size = input.size();
+            long position = 0;
+            while (position < size) {
+                long end = chunkEnd(input, position, options.chunkSize(), size);
+                MappedByteBuffer chunk = input.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                pending.add(executor.submit(() -> new ChunkScorer(processor, options.progression()).score(chunk)));
+                if (pending.size() >= options.threads() * 2) {
+                    summary = write(pending.poll(), output, summary);
+                }
+                position = end;
+            }
+            while (!pending.isEmpty()) {
+                summary = write(pending.poll(), output, summary);
+            }
+            output.force(false);
+        } finally {
+            executor.shutdownNow();
+        }
+        return summary;
+    }
+
+    /**
+     * @return the position right after the first line break at or after {@code position + chunkSize - 1}
+     */
+    private static long chunkEnd(FileChannel input, long position, int chunkSize, long size) throws IOException {
+        long scan = position + chunkSize - 1;
+        if (scan >= size - 1) {
+            return size;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        while (scan < size) {
+            buffer.clear();
+            int read = input.read(buffer, scan);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return checkLength(position, scan + i + 1);
+                }
+            }
+            scan += read;
+        }
+        return checkLength(position, size);
+    }
+
+    private static long checkLength(long position, long end) throws IOException {
+        if (end - position > Integer.MAX_VALUE) {
+            throw new IOException("Line starting before offset " + end + " is too long to be mapped");
+        }
+        return end;
+    }
+
+    private static BulkScoringSummary write(Future<ChunkScorer.Result> future, FileChannel output,
+                                            BulkScoringSummary summary) throws IOException {
+        ChunkScorer.Result result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scoring", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IllegalStateException("Failed to score chunk", e.getCause());
+        }
+        result.output().writeTo(output);
+        return summary.plus(result.sequences(), result.rejected());
+    }
+}
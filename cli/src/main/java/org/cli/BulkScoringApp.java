@@ -0,0 +1,32 @@
+package org.cli;
+
+import org.domain.usecase.GameSequenceProcessor;
+
+import java.io.IOException;
+
+/**
+ * Offline entry point scoring archived point logs without the web stack.
+ * <p>
+ * Usage: {@code java -jar cli/target/tennis-cli.jar <input file> <output file> [--progression] [--threads=N]
+ * [--chunk-size=BYTES]}
+ */
+public class BulkScoringApp {
+
+    public static void main(String[] args) throws IOException {
+        BulkScoringOptions options;
+        try {
+            options = BulkScoringOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(BulkScoringOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        long start = System.nanoTime();
+        BulkScoringSummary summary = new BulkScorer(new GameSequenceProcessor()).score(options);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Scored %d sequences (%d rejected) in %d ms%n",
+                summary.sequences(), summary.rejected(), elapsedMillis);
+    }
+}
@@ -0,0 +1,64 @@
+package org.cli;
+
+import java.nio.file.Path;
+
+/**
+ * Command line options of {@link BulkScoringApp}.
+ *
+ * @param progression also write every intermediate score of each game
+ * @param chunkSize   approximate number of input bytes scored by one task, moved forward to the next line break
+ */
+public record BulkScoringOptions(Path input, Path output, boolean progression, int threads, int chunkSize) {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+    static final int MAX_CHUNK_SIZE = 1 << 30;
+
+    static final String USAGE = "Usage: java -jar tennis-cli.jar <input file> <output file> "
+            + "[--progression] [--threads=N] [--chunk-size=BYTES]";
+
+    public BulkScoringOptions {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output files are required");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least 1");
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE + " bytes");
+        }
+    }
+
+    public static BulkScoringOptions parse(String... args) {
+        Path input = null;
+        Path output = null;
+        boolean progression = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+        for (String arg : args) {
+            if (arg.equals("--progression")) {
+                progression = true;
+            } else if (arg.startsWith("--threads=")) {
+                threads = parseInt(arg, "--threads=");
+            } else if (arg.startsWith("--chunk-size=")) {
+                chunkSize = parseInt(arg, "--chunk-size=");
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            } else if (input == null) {
+                input = Path.of(arg);
+            } else if (output == null) {
+                output = Path.of(arg);
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+        return new BulkScoringOptions(input, output, progression, threads, chunkSize);
+    }
+
+    private static int parseInt(String arg, String prefix) {
+        try {
+            return Integer.parseInt(arg.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in option: " + arg);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.cli;
+
+/**
+ * @param sequences number of input lines scored
+ * @param rejected  number of those lines that were not valid sequences
+ */
+public record BulkScoringSummary(long sequences, long rejected) {
+
+    BulkScoringSummary plus(long sequences, long rejected) {
+        return new BulkScoringSummary(this.sequences + sequences, this.rejected + rejected);
+    }
+}
@@ -0,0 +1,109 @@
+package org.cli;
+
+import org.domain.model.PackedGameEvaluator;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.GameSequenceProcessor;
+import org.domain.usecase.PackedSequence;
+import org.domain.usecase.ScoreSink;
+import org.domain.usecase.SequenceParser;
+import org.domain.usecase.SequencePlayers;
+import org.domain.usecase.ValidationError;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Scores every line of one chunk of the input file into one output line each:
+ * <ul>
+ *     <li>{@code A,5} for a game won by {@code A} after 5 points, {@code -,3} for an unfinished game</li>
+ *     <li>{@code A,5,15-0;30-0;...;Game A} when the progression is requested</li>
+ *     <li>{@code ERROR,INVALID_CHARACTER,2} for a line that is not a valid sequence</li>
+ * </ul>
+ * Without the progression a line is packed one bit per point and played by {@link PackedGameEvaluator}, eight
+ * points per lookup. An instance is confined to the thread scoring its chunk.
+ */
+final class ChunkScorer implements ScoreSink {
+
+    private final GameSequenceProcessor processor;
+    private final boolean progression;
+    private final ResultBuffer scores = new ResultBuffer(256);
+    private Score last;
+    private long[] points = new long[16];
+
+    private long sequences;
+    private long rejected;
+
+    ChunkScorer(GameSequenceProcessor processor, boolean progression) {
+        this.processor = processor;
+        this.progression = progression;
+    }
+
+    record Result(ResultBuffer output, long sequences, long rejected) {
+    }
+
+    Result score(ByteBuffer chunk) {
+        int limit = chunk.limit();
+        ResultBuffer output = new ResultBuffer(progression ? limit : limit / 2);
+        AsciiLine line = new AsciiLine(chunk);
+        int start = 0;
+        while (start < limit) {
+            int end = start;
+            while (end < limit && chunk.get(end) != '\n') {
+                end++;
+            }
+            int lineEnd = end > start && chunk.get(end - 1) == '\r' ? end - 1 : end;
+            scoreLine(line.reset(start, lineEnd - start), output);
+            start = end + 1;
+        }
+        return new Result(output, sequences, rejected);
+    }
+
+    @Override
+    public boolean accept(Score score) {
+        if (progression) {
+            if (last != null) {
+                scores.append(';');
+            }
+            appendScore(score);
+        }
+        last = score;
+        return true;
+    }
+
+    private void scoreLine(AsciiLine line, ResultBuffer output) {
+        sequences++;
+        switch (SequenceParser.tryParse(line)) {
+            case ValidationError error -> {
+                rejected++;
+                output.append("ERROR,").append(error.code().name()).append(',').append(error.position());
+            }
+            case SequencePlayers players when !progression -> {
+                points = PackedSequence.packPoints(line, players.player1(), points);
+                PackedGameEvaluator.Evaluation result = PackedGameEvaluator.evaluate(points, line.length());
+                char winner = switch (ScoringEngine.winner(result.state())) {
+                    case ScoringEngine.PLAYER_1 -> players.player1();
+                    case ScoringEngine.PLAYER_2 -> players.player2();
+                    default -> '-';
+                };
+                output.append(winner).append(',').append(result.end());
+            }
+            case SequencePlayers players -> {
+                last = null;
+                scores.clear();
+                int played = processor.processGameSequence(line, players, this);
+                output.append(last.winner() != null ? last.winner().getIdentifier() : '-').append(',').append(played)
+                        .append(',').append(scores);
+            }
+        }
+        output.append('\n');
+    }
+
+    private void appendScore(Score score) {
+        switch (score.status()) {
+            case DEUCE -> scores.append("Deuce");
+            case ADVANTAGE -> scores.append("Advantage ").append(score.getAdvantagePlayer().getIdentifier());
+            case FINISHED -> scores.append("Game ").append(score.winner().getIdentifier());
+            default -> scores.append(score.getPlayer1ScoreDisplay()).append('-').append(score.getPlayer2ScoreDisplay());
+        }
+    }
+}
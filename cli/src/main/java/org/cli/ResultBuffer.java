@@ -0,0 +1,66 @@
+package org.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Growable ASCII output of one chunk, handed to the output channel in a single write.
+ */
+final class ResultBuffer {
+
+    private byte[] bytes;
+    private int size;
+
+    ResultBuffer(int capacity) {
+        this.bytes = new byte[Math.max(capacity, 16)];
+    }
+
+    ResultBuffer append(char c) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) c;
+        return this;
+    }
+
+    ResultBuffer append(String ascii) {
+        int length = ascii.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            bytes[size++] = (byte) ascii.charAt(i);
+        }
+        return this;
+    }
+
+    ResultBuffer append(int value) {
+        return append(Integer.toString(value));
+    }
+
+    ResultBuffer append(ResultBuffer other) {
+        ensureCapacity(other.size);
+        System.arraycopy(other.bytes, 0, bytes, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, size);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.cli;
+
+import org.domain.usecase.GameSequenceProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkScorerTest {
+
+    @TempDir
+    Path directory;
+
+    private final BulkScorer scorer = new BulkScorer(new GameSequenceProcessor());
+
+    @Nested
+    @DisplayName("Output Format")
+    class OutputFormat {
+
+        @Test
+        @DisplayName("Should write one result line per input line")
+        void testResults() throws Exception {
+            // Given
+            Path input = write("AAAAB\nabab\r\n\nAB1\nABABABBB\n");
+
+            // When
+            BulkScoringSummary summary = score(input, false, 1, BulkScoringOptions.DEFAULT_CHUNK_SIZE);
+
+            // Then
+            assertEquals(List.of("A,4", "-,4", "ERROR,EMPTY_SEQUENCE,-1", "ERROR,INVALID_CHARACTER,2", "B,8"),
+                    readOutput());
+            assertEquals(new BulkScoringSummary(5, 2), summary);
+        }
+
+        @Test
+        @DisplayName("Should append the progression when requested")
+        void testProgression() throws Exception {
+            // Given
+            Path input = write("ABABABAA");
+
+            // When
+            score(input, true, 1, BulkScoringOptions.DEFAULT_CHUNK_SIZE);
+
+            // Then
+            assertEquals(List.of("A,8,15-0;15-15;30-15;30-30;40-30;Deuce;Advantage A;Game A"), readOutput());
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunking")
+    class Chunking {
+
+        @Test
+        @DisplayName("Should keep input order across many small chunks scored in parallel")
+        void testParallelChunks() throws Exception {
+            // Given
+            Random random = new Random(7);
+            StringBuilder content = new StringBuilder();
+            List<String> sequences = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                StringBuilder sequence = new StringBuilder();
+                for (int point = random.nextInt(12) + 1; point > 0; point--) {
+                    sequence.append(random.nextBoolean() ? 'X' : 'Y');
+                }
+                sequences.add(sequence.toString());
+                content.append(sequence).append('\n');
+            }
+            Path input = write(content.toString());
+            score(input, false, 1, BulkScoringOptions.DEFAULT_CHUNK_SIZE);
+            List<String> expected = readOutput();
+
+            // When
+            BulkScoringSummary summary = score(input, false, 4, 37);
+
+            // Then
+            assertEquals(expected, readOutput());
+            assertEquals(sequences.size(), expected.size());
+            assertEquals(sequences.size(), summary.sequences());
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        return Files.writeString(directory.resolve("input.txt"), content);
+    }
+
+    private BulkScoringSummary score(Path input, boolean progression, int threads, int chunkSize) throws Exception {
+        return scorer.score(new BulkScoringOptions(input, directory.resolve("output.txt"), progression, threads, chunkSize));
+    }
+
+    private List<String> readOutput() throws Exception {
+        return Files.readAllLines(directory.resolve("output.txt"));
+    }
+}
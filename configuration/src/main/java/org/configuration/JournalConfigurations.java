@@ -0,0 +1,45 @@
+package org.configuration;
+
+import org.domain.usecase.LiveGameStore;
+import org.infrastructure.persistence.MappedGameJournal;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Persists the live games when {@code tennis.journal.directory} is set, recovering them on startup.
+ */
+@Configuration
+@ConditionalOnProperty("tennis.journal.directory")
+public class JournalConfigurations {
+
+    private final LiveGameStore liveGameStore;
+    private final ObjectProvider<MappedGameJournal> mappedGameJournal;
+
+    public JournalConfigurations(LiveGameStore liveGameStore, ObjectProvider<MappedGameJournal> mappedGameJournal) {
+        this.liveGameStore = liveGameStore;
+        this.mappedGameJournal = mappedGameJournal;
+    }
+
+    @Bean
+    MappedGameJournal mappedGameJournal(@Value("${tennis.journal.directory}") Path directory,
+                                        @Value("${tennis.journal.segment-size:67108864}") int segmentSize,
+                                        @Value("${tennis.journal.commit-interval:PT0.005S}") Duration commitInterval,
+                                        @Value("${tennis.journal.sync-writes:false}") boolean syncWrites) throws IOException {
+        MappedGameJournal journal = new MappedGameJournal(directory, segmentSize, commitInterval, syncWrites);
+        journal.recover(liveGameStore, System.currentTimeMillis());
+        return journal;
+    }
+
+    @Scheduled(fixedDelayString = "${tennis.journal.snapshot-interval:PT5M}")
+    void snapshot() throws IOException {
+        mappedGameJournal.getObject().snapshot(liveGameStore);
+    }
+}
@@ -0,0 +1,23 @@
+package org.configuration;
+
+
+import org.domain.usecase.LiveGameService;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfigurations {
+
+    private final LiveGameService liveGameService;
+
+    public SchedulingConfigurations(LiveGameService liveGameService) {
+        this.liveGameService = liveGameService;
+    }
+
+    @Scheduled(fixedDelayString = "${tennis.live.eviction-interval:PT1M}")
+    void evictIdleGames() {
+        liveGameService.evictIdleGames();
+    }
+}
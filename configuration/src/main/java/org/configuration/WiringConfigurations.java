@@ -1,17 +1,112 @@
 package org.configuration;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.domain.usecase.BatchTennisScoreQuery;
+import org.domain.usecase.GameResultCache;
 import org.domain.usecase.GameSequenceProcessor;
+import org.domain.usecase.LiveGameJournal;
+import org.domain.usecase.LiveGameService;
+import org.domain.usecase.LiveGameStore;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.ScoreRangeQuery;
+import org.domain.usecase.ScoringMetrics;
 import org.domain.usecase.TennisScoreQuery;
+import org.domain.usecase.WinProbabilityQuery;
+import org.infrastructure.live.LiveScoreBroadcaster;
+import org.infrastructure.metrics.CacheMetrics;
+import org.infrastructure.metrics.MicrometerScoringMetrics;
+import org.infrastructure.web.response.ResponseBodyCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class WiringConfigurations {
 
     @Bean
-    TennisScoreQuery tennisScoreQuery() {
-        return new TennisScoreQuery(new GameSequenceProcessor());
+    GameResultCache gameResultCache(@Value("${tennis.cache.maximum-size:10000}") int maximumSize,
+                                    @Value("${tennis.cache.maximum-sequence-length:64}") int maximumSequenceLength) {
+        return new GameResultCache(maximumSize, maximumSequenceLength);
+    }
+
+    @Bean
+    CacheMetrics gameResultCacheMetrics(GameResultCache gameResultCache) {
+        return new CacheMetrics("game-result", gameResultCache::stats);
+    }
+
+    @Bean
+    ScoringMetrics scoringMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerScoringMetrics(meterRegistry);
+    }
+
+    @Bean
+    TennisScoreQuery tennisScoreQuery(GameResultCache gameResultCache, ScoringMetrics scoringMetrics) {
+        return new TennisScoreQuery(new GameSequenceProcessor(), gameResultCache, scoringMetrics);
+    }
+
+    @Bean
+    BatchTennisScoreQuery batchTennisScoreQuery(TennisScoreQuery tennisScoreQuery,
+                                                @Value("${tennis.batch.maximum-size:1000}") int maximumBatchSize) {
+        return new BatchTennisScoreQuery(tennisScoreQuery, maximumBatchSize);
+    }
+
+    @Bean
+    MatchQuery matchQuery(ScoringMetrics scoringMetrics) {
+        return new MatchQuery(scoringMetrics);
+    }
+
+    @Bean
+    WinProbabilityQuery winProbabilityQuery(@Value("${tennis.probability.grid-size:1001}") int gridSize) {
+        return new WinProbabilityQuery(gridSize);
+    }
+
+    @Bean
+    ScoreRangeQuery scoreRangeQuery(ScoringMetrics scoringMetrics,
+                                    @Value("${tennis.index.maximum-size:1000}") int maximumSize,
+                                    @Value("${tennis.index.checkpoint-interval:1024}") int checkpointInterval,
+                                    @Value("${tennis.index.maximum-window:10000}") int maximumWindow) {
+        return new ScoreRangeQuery(maximumSize, checkpointInterval, maximumWindow, scoringMetrics);
+    }
+
+    @Bean
+    CacheMetrics scoreIndexCacheMetrics(ScoreRangeQuery scoreRangeQuery) {
+        return new CacheMetrics("score-index", scoreRangeQuery::stats);
+    }
+
+    @Bean
+    ResponseBodyCache responseBodyCache(ObjectMapper objectMapper,
+                                        @Value("${tennis.response-cache.maximum-bytes:67108864}") long maximumBytes,
+                                        @Value("${tennis.response-cache.maximum-body-size:65536}") int maximumBodySize,
+                                        @Value("${tennis.response-cache.max-age:P1D}") Duration maxAge) {
+        return new ResponseBodyCache(maximumBytes, maximumBodySize, maxAge, objectMapper);
+    }
+
+    @Bean
+    CacheMetrics responseBodyCacheMetrics(ResponseBodyCache responseBodyCache) {
+        return new CacheMetrics("response-body", responseBodyCache::stats);
+    }
+
+    @Bean
+    LiveGameStore liveGameStore() {
+        return new LiveGameStore();
+    }
+
+    @Bean
+    LiveScoreBroadcaster liveScoreBroadcaster(ObjectMapper objectMapper) {
+        return new LiveScoreBroadcaster(objectMapper);
+    }
+
+    @Bean
+    LiveGameService liveGameService(LiveGameStore liveGameStore, ObjectProvider<LiveGameJournal> liveGameJournal,
+                                    LiveScoreBroadcaster liveScoreBroadcaster,
+                                    @Value("${tennis.live.idle-timeout:PT30M}") Duration idleTimeout) {
+        return new LiveGameService(liveGameStore, idleTimeout, System::currentTimeMillis,
+                liveGameJournal.getIfAvailable(() -> LiveGameJournal.NONE), liveScoreBroadcaster);
     }
 
 }
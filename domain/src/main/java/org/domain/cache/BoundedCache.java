@@ -0,0 +1,128 @@
+package org.domain.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Size or weight bounded, thread safe LRU cache.
+ * <p>
+ * Entries are spread over independently locked segments, each one an access ordered {@link LinkedHashMap},
+ * so eviction is least recently used per segment and contention is limited to keys hashing to the same
+ * segment. Each segment holds an equal share of the maximum weight, weighted caches being split only while
+ * a share stays above {@value #MIN_SEGMENT_WEIGHT}; an entry heavier than its share is not stored.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+    private static final long MIN_SEGMENT_WEIGHT = 1 << 16;
+
+    private final Segment<K, V>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Bounds the cache by entry count.
+     */
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, Math.min(SEGMENTS, Integer.highestOneBit(Math.max(maximumSize, 1))), (key, value) -> 1);
+    }
+
+    /**
+     * Bounds the cache by the total weight of its entries, as given by the weigher when they are stored.
+     */
+    public BoundedCache(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+        this(maximumWeight, (int) Math.min(SEGMENTS, Math.max(1, Long.highestOneBit(maximumWeight / MIN_SEGMENT_WEIGHT))),
+                weigher);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BoundedCache(long maximumWeight, int segmentCount, ToLongBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        long segmentBudget = (maximumWeight + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentBudget, weigher, evictions);
+        }
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        V value;
+        synchronized (segment) {
+            value = segment.entries.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long budget;
+        private final ToLongBiFunction<? super K, ? super V> weigher;
+        private final LongAdder evictions;
+        private long weight;
+
+        Segment(long budget, ToLongBiFunction<? super K, ? super V> weigher, LongAdder evictions) {
+            this.budget = budget;
+            this.weigher = weigher;
+            this.evictions = evictions;
+        }
+
+        void put(K key, V value) {
+            long entryWeight = weigher.applyAsLong(key, value);
+            V previous = entries.remove(key);
+            if (previous != null) {
+                weight -= weigher.applyAsLong(key, previous);
+            }
+            if (entryWeight > budget) {
+                return;
+            }
+            Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+            while (weight + entryWeight > budget) {
+                Map.Entry<K, V> entry = eldest.next();
+                weight -= weigher.applyAsLong(entry.getKey(), entry.getValue());
+                eldest.remove();
+                evictions.increment();
+            }
+            entries.put(key, value);
+            weight += entryWeight;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.domain.cache;
+
+public record CacheStats(long hits, long misses, long evictions, long size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
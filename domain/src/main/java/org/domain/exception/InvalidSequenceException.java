@@ -1,11 +1,28 @@
 package org.domain.exception;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.Getter;
 
-@Slf4j
+/**
+ * Thrown by the exception based API when a sequence is rejected. Callers on a hot path should prefer the
+ * validation error returned by the result based API, which does not capture a stack trace.
+ * <p>
+ * The code and position are carried as plain values so this package does not depend on the use cases
+ * that throw it.
+ */
+@Getter
 public class InvalidSequenceException extends RuntimeException {
+    /** Name of the validation error code, {@code null} when the rejection has no code. */
+    private final String code;
+    /** Index of the first offending character, {@code -1} when the whole sequence is at fault. */
+    private final int position;
+
     public InvalidSequenceException(String message) {
+        this(message, null, -1);
+    }
+
+    public InvalidSequenceException(String message, String code, int position) {
         super(message);
-        log.info(message);
+        this.code = code;
+        this.position = position;
     }
-}
\ No newline at end of file
+}
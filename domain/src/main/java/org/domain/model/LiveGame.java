@@ -0,0 +1,83 @@
+package org.domain.model;
+
+import lombok.Getter;
+import org.domain.exception.GameStateException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A game scored point by point by concurrent clients.
+ * <p>
+ * The whole score is the packed {@link ScoringEngine} state, so adding a point is a lock-free compare and set
+ * on a single word and concurrent points are never lost.
+ */
+public class LiveGame {
+
+    @Getter
+    private final long id;
+    @Getter
+    private final char player1;
+    @Getter
+    private final char player2;
+    private final AtomicInteger state = new AtomicInteger(ScoringEngine.INITIAL);
+    private volatile long lastAccess;
+
+    public LiveGame(long id, char player1, char player2, long now) {
+        if (player1 == player2) {
+            throw new GameStateException("Players must be different");
+        }
+        this.id = id;
+        this.player1 = player1;
+        this.player2 = player2;
+        this.lastAccess = now;
+    }
+
+    /**
+     * Restores a game from a previously recorded state.
+     */
+    public LiveGame(long id, char player1, char player2, int state, long now) {
+        this(id, player1, player2, now);
+        this.state.set(state);
+    }
+
+    /**
+     * @return the state reached after this point
+     */
+    public int addPoint(char player, long now) {
+        int scorer = scorerOf(player);
+        int current;
+        int next;
+        do {
+            current = state.get();
+            if (ScoringEngine.isFinished(current)) {
+                throw new GameStateException("Game is already finished");
+            }
+            next = ScoringEngine.next(current, scorer);
+        } while (!state.compareAndSet(current, next));
+        lastAccess = now;
+        return next;
+    }
+
+    public int state() {
+        return state.get();
+    }
+
+    public Score currentScore() {
+        return Score.of(player1, player2, state.get());
+    }
+
+    public void touch(long now) {
+        lastAccess = now;
+    }
+
+    public boolean isIdleSince(long threshold) {
+        return lastAccess < threshold;
+    }
+
+    private int scorerOf(char player) {
+        char identifier = Character.toUpperCase(player);
+        if (identifier == player1) return ScoringEngine.PLAYER_1;
+        if (identifier == player2) return ScoringEngine.PLAYER_2;
+        throw new GameStateException("Player " + identifier + " is not part of this game");
+    }
+}
@@ -0,0 +1,161 @@
+package org.domain.model;
+
+import org.domain.exception.GameStateException;
+
+/**
+ * State machine for a whole match: points, games, tie-breaks and sets.
+ * <p>
+ * Like {@link ScoringEngine} the state is a single primitive, here a {@code long} holding the points of the
+ * current game or tie-break, the games of the current set, the sets won and the outcome, so scoring a point
+ * is a few shifts and comparisons without allocation whatever the length of the match. Regular games keep
+ * their points folded back to 40-40 at deuce, and tie-breaks fold theirs back to 5-5 whenever they are level
+ * from 6-6 on, so the points always fit in a few bits. The actual points of a tie-break are recovered with
+ * {@link #tieBreakPoints(long, int, int)}. The games are not folded since a set reports them, their field is
+ * wide enough for the longest deciding set without tie-break any sequence could hold.
+ */
+public final class MatchEngine {
+
+    public static final long INITIAL = 0;
+
+    private static final int POINT_BITS = 4;
+    private static final int GAME_BITS = 23;
+    private static final int SET_BITS = 3;
+    private static final int POINTS_1 = 0;
+    private static final int POINTS_2 = POINTS_1 + POINT_BITS;
+    private static final int GAMES_1 = POINTS_2 + POINT_BITS;
+    private static final int GAMES_2 = GAMES_1 + GAME_BITS;
+    private static final int SETS_1 = GAMES_2 + GAME_BITS;
+    private static final int SETS_2 = SETS_1 + SET_BITS;
+    private static final int TIE_BREAK = SETS_2 + SET_BITS;
+    private static final int FINISHED = TIE_BREAK + 1;
+    private static final int WINNER = FINISHED + 1;
+
+    private static final long POINT_MASK = (1L << POINT_BITS) - 1;
+    private static final long GAME_MASK = (1L << GAME_BITS) - 1;
+    private static final long SET_MASK = (1L << SET_BITS) - 1;
+    private static final long POINTS_FIELDS = POINT_MASK << POINTS_1 | POINT_MASK << POINTS_2;
+    private static final long GAMES_FIELDS = GAME_MASK << GAMES_1 | GAME_MASK << GAMES_2;
+
+    private final MatchFormat format;
+    private final int setsToWin;
+
+    public MatchEngine(MatchFormat format) {
+        this.format = format;
+        this.setsToWin = format.setsToWin();
+    }
+
+    public MatchFormat format() {
+        return format;
+    }
+
+    /**
+     * Moves the match forward by one point. Finished matches are absorbing.
+     *
+     * @param scorer {@link ScoringEngine#PLAYER_1} or {@link ScoringEngine#PLAYER_2}
+     */
+    public long next(long state, int scorer) {
+        if (isFinished(state)) {
+            return state;
+        }
+        int won = points(state, scorer) + 1;
+        int lost = points(state, 1 - scorer);
+        boolean gameOver;
+        if (isTieBreak(state)) {
+            gameOver = won >= MatchFormat.TIE_BREAK_POINTS && won - lost >= 2;
+            if (won == lost && won >= MatchFormat.TIE_BREAK_POINTS - 1) {
+                // level from 6-6 on, both players give a point back so the points never grow
+                return state - (1L << pointShift(1 - scorer));
+            }
+        } else if (won == 4 && lost == 4) {
+            // back to deuce, the points are folded so they never grow
+            return state - (1L << pointShift(1 - scorer));
+        } else {
+            gameOver = won >= 4 && (won - lost >= 2 || !format.advantage());
+        }
+        if (!gameOver) {
+            return state + (1L << pointShift(scorer));
+        }
+        return gameWon(state & ~POINTS_FIELDS, scorer);
+    }
+
+    private long gameWon(long state, int scorer) {
+        boolean tieBreak = isTieBreak(state);
+        int won = games(state, scorer) + 1;
+        int lost = games(state, 1 - scorer);
+        if (won > GAME_MASK) {
+            throw new GameStateException("A set cannot last more than " + GAME_MASK + " games");
+        }
+        if (tieBreak || won >= MatchFormat.GAMES_PER_SET && won - lost >= 2) {
+            return setWon(state & ~GAMES_FIELDS & ~(1L << TIE_BREAK), scorer);
+        }
+        state += 1L << gameShift(scorer);
+        if (won == MatchFormat.GAMES_PER_SET && lost == MatchFormat.GAMES_PER_SET
+                && (format.finalSetTieBreak() || !isFinalSet(state))) {
+            state |= 1L << TIE_BREAK;
+        }
+        return state;
+    }
+
+    private long setWon(long state, int scorer) {
+        state += 1L << setShift(scorer);
+        if (sets(state, scorer) == setsToWin) {
+            state |= 1L << FINISHED | (long) scorer << WINNER;
+        }
+        return state;
+    }
+
+    private boolean isFinalSet(long state) {
+        return sets(state, ScoringEngine.PLAYER_1) == setsToWin - 1 && sets(state, ScoringEngine.PLAYER_2) == setsToWin - 1;
+    }
+
+    /**
+     * Points of the current game, or of the current tie-break.
+     */
+    public static int points(long state, int player) {
+        return (int) (state >>> pointShift(player) & POINT_MASK);
+    }
+
+    /**
+     * Actual points of the current tie-break, its folded points being unfolded from the number of points
+     * played in it.
+     */
+    public static int tieBreakPoints(long state, int player, int pointsPlayed) {
+        int folded = points(state, ScoringEngine.PLAYER_1) + points(state, ScoringEngine.PLAYER_2);
+        return points(state, player) + (pointsPlayed - folded) / 2;
+    }
+
+    public static int games(long state, int player) {
+        return (int) (state >>> gameShift(player) & GAME_MASK);
+    }
+
+    public static int sets(long state, int player) {
+        return (int) (state >>> setShift(player) & SET_MASK);
+    }
+
+    public static boolean isTieBreak(long state) {
+        return (state >>> TIE_BREAK & 1) != 0;
+    }
+
+    public static boolean isFinished(long state) {
+        return (state >>> FINISHED & 1) != 0;
+    }
+
+    /**
+     * @return {@link ScoringEngine#PLAYER_1}, {@link ScoringEngine#PLAYER_2} or {@link ScoringEngine#NONE}
+     */
+    public static int winner(long state) {
+        return isFinished(state) ? (int) (state >>> WINNER & 1) : ScoringEngine.NONE;
+    }
+
+    private static int pointShift(int player) {
+        return player == ScoringEngine.PLAYER_1 ? POINTS_1 : POINTS_2;
+    }
+
+    private static int gameShift(int player) {
+        return player == ScoringEngine.PLAYER_1 ? GAMES_1 : GAMES_2;
+    }
+
+    private static int setShift(int player) {
+        return player == ScoringEngine.PLAYER_1 ? SETS_1 : SETS_2;
+    }
+}
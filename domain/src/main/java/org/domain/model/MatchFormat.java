@@ -0,0 +1,29 @@
+package org.domain.model;
+
+import org.domain.exception.GameStateException;
+
+/**
+ * Rules of a match.
+ *
+ * @param bestOf           number of sets, 1, 3 or 5
+ * @param advantage        whether games at deuce need a two point lead, the deciding point wins otherwise (no-ad)
+ * @param finalSetTieBreak whether the deciding set ends with a tie-break at 6-6 instead of a two game lead
+ */
+public record MatchFormat(int bestOf, boolean advantage, boolean finalSetTieBreak) {
+
+    public static final MatchFormat BEST_OF_3 = new MatchFormat(3, true, true);
+    public static final MatchFormat BEST_OF_5 = new MatchFormat(5, true, true);
+
+    public static final int GAMES_PER_SET = 6;
+    public static final int TIE_BREAK_POINTS = 7;
+
+    public MatchFormat {
+        if (bestOf != 1 && bestOf != 3 && bestOf != 5) {
+            throw new GameStateException("A match is played in the best of 1, 3 or 5 sets");
+        }
+    }
+
+    public int setsToWin() {
+        return bestOf / 2 + 1;
+    }
+}
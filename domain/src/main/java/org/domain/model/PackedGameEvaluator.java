@@ -0,0 +1,81 @@
+package org.domain.model;
+
+/**
+ * Plays bit-packed point sequences a byte at a time when only the outcome is needed.
+ * <p>
+ * Points are read from a {@code long[]}, bit {@code i} of the words set when player 2 won point {@code i}.
+ * For each of the {@link ScoringEngine#STATE_COUNT} states and each of the 256 possible bytes of points, a
+ * precomputed entry holds the state reached, the deuce cycles gained and how many of the eight points were
+ * played before the game finished, so a whole byte costs one table lookup instead of eight transitions.
+ */
+public final class PackedGameEvaluator {
+
+    /**
+     * @param state the packed {@link ScoringEngine} state reached
+     * @param end   index of the point after the last one played, where the game ended when it is finished
+     */
+    public record Evaluation(int state, int end) {
+    }
+
+    private static final int BYTE_POINTS = 8;
+    private static final int ID_BITS = 5;
+    private static final int STEP_MASK = 0xFF;
+    private static final int CONSUMED_SHIFT = 8;
+
+    /** {@code id | deuce cycles gained << 5 | points consumed << 8}, indexed by {@code id << 8 | byte}. */
+    private static final char[] BYTE_TRANSITIONS = new char[ScoringEngine.STATE_COUNT << 8];
+
+    static {
+        for (int id = 0; id < ScoringEngine.STATE_COUNT; id++) {
+            for (int points = 0; points < 256; points++) {
+                int state = id;
+                int consumed = 0;
+                while (consumed < BYTE_POINTS && !ScoringEngine.isFinished(state)) {
+                    state = ScoringEngine.next(state, points >>> consumed & 1);
+                    consumed++;
+                }
+                BYTE_TRANSITIONS[id << 8 | points] = (char) (ScoringEngine.stateId(state)
+                        | ScoringEngine.deuceCycles(state) << ID_BITS | consumed << CONSUMED_SHIFT);
+            }
+        }
+    }
+
+    private PackedGameEvaluator() {
+    }
+
+    public static Evaluation evaluate(long[] points, int length) {
+        return evaluate(ScoringEngine.INITIAL, points, 0, length);
+    }
+
+    /**
+     * Plays points {@code from} (inclusive) to {@code to} (exclusive) from the given state, stopping at the
+     * point that finishes the game.
+     */
+    public static Evaluation evaluate(int state, long[] points, int from, int to) {
+        int i = from;
+        while (i < to && (i & 7) != 0) {
+            if (ScoringEngine.isFinished(state)) {
+                return new Evaluation(state, i);
+            }
+            state = ScoringEngine.next(state, scorer(points, i++));
+        }
+        while (i + BYTE_POINTS <= to) {
+            int step = BYTE_TRANSITIONS[ScoringEngine.stateId(state) << 8 | (int) (points[i >>> 6] >>> i) & 0xFF];
+            // the id bits are replaced, the deuce cycles gained are added to the count above them
+            state = state - ScoringEngine.stateId(state) + (step & STEP_MASK);
+            int consumed = step >>> CONSUMED_SHIFT;
+            i += consumed;
+            if (consumed < BYTE_POINTS) {
+                return new Evaluation(state, i);
+            }
+        }
+        while (i < to && !ScoringEngine.isFinished(state)) {
+            state = ScoringEngine.next(state, scorer(points, i++));
+        }
+        return new Evaluation(state, i);
+    }
+
+    private static int scorer(long[] points, int index) {
+        return (int) (points[index >>> 6] >>> index) & 1;
+    }
+}
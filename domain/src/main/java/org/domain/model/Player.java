@@ -7,6 +7,8 @@ import lombok.Getter;
 @Getter
 public class Player {
 
+    private static final String[] SCORE_DISPLAY = {"0", "15", "30", "40"};
+
     private final char identifier;
     private final int points;
     private final boolean  advantage;
@@ -44,6 +46,13 @@ public class Player {
     public Player setAdvantage(boolean advantage) {
         return new Player(identifier, points, advantage);
     }
+
+    Player withScore(int points, boolean advantage) {
+        if (this.points == points && this.advantage == advantage) {
+            return this;
+        }
+        return new Player(identifier, points, advantage);
+    }
     public boolean canWinGame() {
         return points >= 4;
     }
@@ -52,11 +61,6 @@ public class Player {
         return points >= 3;
     }
     public String getScoreDisplay() {
-        return switch (points) {
-            case 0 -> "0";
-            case 1 -> "15";
-            case 2 -> "30";
-            default -> "40";
-        };
+        return SCORE_DISPLAY[Math.min(points, 3)];
     }
 }
@@ -6,6 +6,28 @@ import java.util.Objects;
 
 
 public record Score(Player player1, Player player2, GameStatus status, Player winner) {
+
+    /**
+     * Rebuilds the score of a {@link ScoringEngine} state for the given player identifiers.
+     */
+    public static Score of(char player1, char player2, int state) {
+        int advantage = ScoringEngine.advantagePlayer(state);
+        Player first = new Player(player1).withScore(ScoringEngine.player1Points(state), advantage == ScoringEngine.PLAYER_1);
+        Player second = new Player(player2).withScore(ScoringEngine.player2Points(state), advantage == ScoringEngine.PLAYER_2);
+        Player winner = switch (ScoringEngine.winner(state)) {
+            case ScoringEngine.PLAYER_1 -> first;
+            case ScoringEngine.PLAYER_2 -> second;
+            default -> null;
+        };
+        return new Score(first, second, ScoringEngine.status(state), winner);
+    }
+
+    /**
+     * The {@link ScoringEngine} state matching this score.
+     */
+    public int state() {
+        return ScoringEngine.fromPoints(player1.getPoints(), player2.getPoints());
+    }
     public Player getAdvantagePlayer() {
         if (player1.isAdvantage()) return player1;
         if (player2.isAdvantage()) return player2;
@@ -0,0 +1,157 @@
+package org.domain.model;
+
+/**
+ * Table driven state machine for a single game.
+ * <p>
+ * A game state is packed into an {@code int}: the low 5 bits hold one of the {@link #STATE_COUNT} reachable
+ * states and the remaining bits count how many times the game went back to deuce. The count is only needed
+ * to recover the raw point totals exposed by {@link Player#getPoints()}, so a transition is a single table
+ * lookup plus an addition.
+ */
+public final class ScoringEngine {
+
+    public static final int PLAYER_1 = 0;
+    public static final int PLAYER_2 = 1;
+    public static final int NONE = -1;
+
+    public static final int INITIAL = 0;
+    public static final int STATE_COUNT = 26;
+
+    public static final int DEUCE = 15;
+    public static final int ADVANTAGE_PLAYER_1 = 16;
+    public static final int ADVANTAGE_PLAYER_2 = 17;
+    /** First of the four states where player 1 won, the loser having 0, 1, 2 points or the game going to deuce. */
+    public static final int WON_PLAYER_1 = 18;
+    public static final int WON_PLAYER_2 = 22;
+    private static final int WON_AFTER_DEUCE = 3;
+
+    private static final int STATE_BITS = 5;
+    private static final int STATE_MASK = (1 << STATE_BITS) - 1;
+
+    private static final int[] TRANSITIONS = new int[STATE_COUNT * 2];
+    private static final GameStatus[] STATUS = new GameStatus[STATE_COUNT];
+
+    static {
+        for (int id = 0; id < STATE_COUNT; id++) {
+            STATUS[id] = computeStatus(id);
+            for (int scorer = PLAYER_1; scorer <= PLAYER_2; scorer++) {
+                int next = id;
+                if (STATUS[id] != GameStatus.FINISHED) {
+                    int p1 = player1Points(id) + (scorer == PLAYER_1 ? 1 : 0);
+                    int p2 = player2Points(id) + (scorer == PLAYER_2 ? 1 : 0);
+                    next = fromPoints(p1, p2);
+                }
+                TRANSITIONS[id << 1 | scorer] = next;
+            }
+        }
+    }
+
+    private ScoringEngine() {
+    }
+
+    /**
+     * Moves the game forward by one point. Finished states are absorbing, callers are expected to check
+     * {@link #isFinished(int)} when they need to reject extra points.
+     */
+    public static int next(int state, int scorer) {
+        return (state & ~STATE_MASK) + TRANSITIONS[(state & STATE_MASK) << 1 | scorer];
+    }
+
+    /**
+     * Builds the state reached with the given point totals.
+     */
+    public static int fromPoints(int player1Points, int player2Points) {
+        if (player1Points >= 3 && player2Points >= 3) {
+            int cycles = Math.min(player1Points, player2Points) - 3;
+            int difference = player1Points - player2Points;
+            int id;
+            if (difference == 0) {
+                id = DEUCE;
+            } else if (difference == 1) {
+                id = ADVANTAGE_PLAYER_1;
+            } else if (difference == -1) {
+                id = ADVANTAGE_PLAYER_2;
+            } else {
+                id = (difference > 0 ? WON_PLAYER_1 : WON_PLAYER_2) + WON_AFTER_DEUCE;
+            }
+            return cycles << STATE_BITS | id;
+        }
+        if (player1Points >= 4) {
+            return WON_PLAYER_1 + player2Points;
+        }
+        if (player2Points >= 4) {
+            return WON_PLAYER_2 + player1Points;
+        }
+        return player1Points * 4 + player2Points;
+    }
+
+    public static int stateId(int state) {
+        return state & STATE_MASK;
+    }
+
+    public static int deuceCycles(int state) {
+        return state >>> STATE_BITS;
+    }
+
+    public static GameStatus status(int state) {
+        return STATUS[state & STATE_MASK];
+    }
+
+    public static boolean isFinished(int state) {
+        return (state & STATE_MASK) >= WON_PLAYER_1;
+    }
+
+    public static int player1Points(int state) {
+        int id = state & STATE_MASK;
+        int cycles = state >>> STATE_BITS;
+        if (id < DEUCE) return id >> 2;
+        return switch (id) {
+            case DEUCE, ADVANTAGE_PLAYER_2 -> 3 + cycles;
+            case ADVANTAGE_PLAYER_1 -> 4 + cycles;
+            case WON_PLAYER_1 + WON_AFTER_DEUCE -> 5 + cycles;
+            case WON_PLAYER_2 + WON_AFTER_DEUCE -> 3 + cycles;
+            default -> id < WON_PLAYER_2 ? 4 : id - WON_PLAYER_2;
+        };
+    }
+
+    public static int player2Points(int state) {
+        int id = state & STATE_MASK;
+        int cycles = state >>> STATE_BITS;
+        if (id < DEUCE) return id & 3;
+        return switch (id) {
+            case DEUCE, ADVANTAGE_PLAYER_1 -> 3 + cycles;
+            case ADVANTAGE_PLAYER_2 -> 4 + cycles;
+            case WON_PLAYER_1 + WON_AFTER_DEUCE -> 3 + cycles;
+            case WON_PLAYER_2 + WON_AFTER_DEUCE -> 5 + cycles;
+            default -> id < WON_PLAYER_2 ? id - WON_PLAYER_1 : 4;
+        };
+    }
+
+    /**
+     * Number of points played to reach the state, which only grows as a game goes on.
+     */
+    public static int pointsPlayed(int state) {
+        return player1Points(state) + player2Points(state);
+    }
+
+    public static int advantagePlayer(int state) {
+        return switch (state & STATE_MASK) {
+            case ADVANTAGE_PLAYER_1 -> PLAYER_1;
+            case ADVANTAGE_PLAYER_2 -> PLAYER_2;
+            default -> NONE;
+        };
+    }
+
+    public static int winner(int state) {
+        int id = state & STATE_MASK;
+        if (id < WON_PLAYER_1) return NONE;
+        return id < WON_PLAYER_2 ? PLAYER_1 : PLAYER_2;
+    }
+
+    private static GameStatus computeStatus(int id) {
+        if (id < DEUCE) return GameStatus.IN_PROGRESS;
+        if (id == DEUCE) return GameStatus.DEUCE;
+        if (id < WON_PLAYER_1) return GameStatus.ADVANTAGE;
+        return GameStatus.FINISHED;
+    }
+}
@@ -5,8 +5,7 @@ import org.domain.exception.GameStateException;
 public class TennisGame {
     private Player player1;
     private Player player2;
-    private GameStatus status = GameStatus.IN_PROGRESS;
-    private Player winner = null;
+    private int state = ScoringEngine.INITIAL;
 
     public TennisGame(Player player1, Player player2) {
         if (player1.equals(player2)) {
@@ -17,58 +16,41 @@ public class TennisGame {
     }
 
     public Score getCurrentScore() {
-        return new Score(player1, player2, status, winner);
+        Player winner = switch (ScoringEngine.winner(state)) {
+            case ScoringEngine.PLAYER_1 -> player1;
+            case ScoringEngine.PLAYER_2 -> player2;
+            default -> null;
+        };
+        return new Score(player1, player2, ScoringEngine.status(state), winner);
     }
 
     public Score addPoint(Player playerWhoScored) {
-        if (status == GameStatus.FINISHED) {
-            throw new GameStateException("Game is already finished");
-        }
-
-        // Update the player who scored
         if (playerWhoScored.equals(player1)) {
-            player1 = player1.addPoint();
+            return addPoint(ScoringEngine.PLAYER_1);
         } else if (playerWhoScored.equals(player2)) {
-            player2 = player2.addPoint();
-        } else {
-            throw new GameStateException("Player " + playerWhoScored + " is not part of this game");
+            return addPoint(ScoringEngine.PLAYER_2);
         }
-
-        updateGameStatus();
-        return getCurrentScore();
+        throw new GameStateException("Player " + playerWhoScored + " is not part of this game");
     }
 
-    private void updateGameStatus() {
-        // Reset advantages first
-        player1 = player1.setAdvantage(false);
-        player2 = player2.setAdvantage(false);
-
-        // Both players have at least 3 points (40-40 or more)
-        if (player1.isAtDeuce() && player2.isAtDeuce()) {
-            if (player1.getPoints() == player2.getPoints()) {
-                status = GameStatus.DEUCE;
-            } else if (Math.abs(player1.getPoints() - player2.getPoints()) == 1) {
-                status = GameStatus.ADVANTAGE;
-                if (player1.getPoints() > player2.getPoints()) {
-                    player1 = player1.setAdvantage(true);
-                } else {
-                    player2 = player2.setAdvantage(true);
-                }
-            } else {
-                // One player wins by 2+ points after deuce
-                status = GameStatus.FINISHED;
-                winner = player1.getPoints() > player2.getPoints() ? player1 : player2;
-            }
-        } else if (player1.canWinGame() || player2.canWinGame()) {
-            // Standard win (4 points with opponent having less than 3)
-            if ((player1.canWinGame() && !player2.isAtDeuce()) ||
-                    (player2.canWinGame() && !player1.isAtDeuce())) {
-                status = GameStatus.FINISHED;
-                winner = player1.getPoints() > player2.getPoints() ? player1 : player2;
-            }
-        } else {
-            status = GameStatus.IN_PROGRESS;
+    /**
+     * @param scorer {@link ScoringEngine#PLAYER_1} or {@link ScoringEngine#PLAYER_2}
+     * @throws IllegalArgumentException for any other scorer
+     */
+    public Score addPoint(int scorer) {
+        if (scorer != ScoringEngine.PLAYER_1 && scorer != ScoringEngine.PLAYER_2) {
+            throw new IllegalArgumentException("Scorer must be PLAYER_1 or PLAYER_2. Found: " + scorer);
+        }
+        if (ScoringEngine.isFinished(state)) {
+            throw new GameStateException("Game is already finished");
         }
+        state = ScoringEngine.next(state, scorer);
+
+        // Players are only reallocated when their points or advantage actually changed
+        int advantage = ScoringEngine.advantagePlayer(state);
+        player1 = player1.withScore(ScoringEngine.player1Points(state), advantage == ScoringEngine.PLAYER_1);
+        player2 = player2.withScore(ScoringEngine.player2Points(state), advantage == ScoringEngine.PLAYER_2);
+        return getCurrentScore();
     }
 
 }
@@ -0,0 +1,16 @@
+package org.domain.usecase;
+
+public record BatchItemResult(String sequence, GameResult result, String error) {
+
+    public static BatchItemResult success(GameResult result) {
+        return new BatchItemResult(result.sequence(), result, null);
+    }
+
+    public static BatchItemResult failure(String sequence, String error) {
+        return new BatchItemResult(sequence, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
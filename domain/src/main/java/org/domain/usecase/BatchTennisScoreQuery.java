@@ -0,0 +1,56 @@
+package org.domain.usecase;
+
+import org.domain.exception.GameStateException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public class BatchTennisScoreQuery {
+    private final TennisScoreQuery tennisScoreQuery;
+    private final int maximumBatchSize;
+
+    public BatchTennisScoreQuery(TennisScoreQuery tennisScoreQuery, int maximumBatchSize) {
+        if (maximumBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be positive");
+        }
+        this.tennisScoreQuery = tennisScoreQuery;
+        this.maximumBatchSize = maximumBatchSize;
+    }
+
+    /**
+     * @return why the batch must be rejected as a whole, empty when it can be executed
+     */
+    public Optional<ValidationError> validate(List<String> sequences) {
+        if (sequences.size() > maximumBatchSize) {
+            return Optional.of(new ValidationError(ValidationErrorCode.BATCH_TOO_LARGE, -1, "Batch of "
+                    + sequences.size() + " sequences exceeds the maximum of " + maximumBatchSize));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Scores every sequence in parallel. Results keep the order of the input and an invalid sequence only
+     * fails its own item.
+     */
+    public List<BatchItemResult> execute(List<String> sequences) {
+        String[] input = sequences.toArray(String[]::new);
+        BatchItemResult[] results = new BatchItemResult[input.length];
+        IntStream.range(0, input.length)
+                .parallel()
+                .forEach(i -> results[i] = score(input[i]));
+        return Arrays.asList(results);
+    }
+
+    private BatchItemResult score(String sequence) {
+        try {
+            return switch (tennisScoreQuery.evaluate(sequence, ScoreProjection.ALL, 1)) {
+                case GameResult result -> BatchItemResult.success(result);
+                case ValidationError error -> BatchItemResult.failure(sequence, error.message());
+            };
+        } catch (GameStateException e) {
+            return BatchItemResult.failure(sequence, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.domain.usecase;
+
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A score progression with its deuce rallies run-length encoded.
+ * <p>
+ * Once a game reaches deuce it only alternates between an advantage and deuce until a player wins by two, so
+ * the progression is kept as the states up to the first deuce, runs of identical cycles ({@code count} times
+ * advantage to the same player then deuce again) and the at most two states after the last cycle. A rally of
+ * any length by the same player pattern costs a single run, and each {@link Score} is only rebuilt when it is
+ * read.
+ */
+public final class CompressedScores extends AbstractList<Score> implements RandomAccess {
+
+    private final char player1;
+    private final char player2;
+    private final int[] head;
+    /** {@code cycles << 1 | advantage player} of each run. */
+    private final int[] runs;
+    /** Number of cycles up to the end of each run. */
+    private final int[] runEnds;
+    private final int[] tail;
+    private final int cycles;
+
+    private CompressedScores(char player1, char player2, int[] head, int[] runs, int[] runEnds, int[] tail) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.head = head;
+        this.runs = runs;
+        this.runEnds = runEnds;
+        this.tail = tail;
+        this.cycles = runEnds.length == 0 ? 0 : runEnds[runEnds.length - 1];
+    }
+
+    public static CompressedScores of(List<Score> scores) {
+        if (scores instanceof CompressedScores compressed) {
+            return compressed;
+        }
+        Builder builder = new Builder();
+        scores.forEach(builder::accept);
+        return builder.scores();
+    }
+
+    /**
+     * The same progression for other players, sharing the encoded states.
+     */
+    public CompressedScores withPlayers(char player1, char player2) {
+        return new CompressedScores(player1, player2, head, runs, runEnds, tail);
+    }
+
+    @Override
+    public Score get(int index) {
+        return Score.of(player1, player2, state(index));
+    }
+
+    @Override
+    public int size() {
+        return head.length + 2 * cycles + tail.length;
+    }
+
+    /**
+     * Number of scores before the first cycle, the first deuce included.
+     */
+    public int headSize() {
+        return head.length;
+    }
+
+    public int runCount() {
+        return runs.length;
+    }
+
+    /**
+     * @return {@link ScoringEngine#PLAYER_1} or {@link ScoringEngine#PLAYER_2}
+     */
+    public int runAdvantage(int run) {
+        return runs[run] & 1;
+    }
+
+    public int runCycles(int run) {
+        return runs[run] >>> 1;
+    }
+
+    /**
+     * Index of the first score after the last cycle.
+     */
+    public int tailStart() {
+        return head.length + 2 * cycles;
+    }
+
+    public char player1() {
+        return player1;
+    }
+
+    public char player2() {
+        return player2;
+    }
+
+    /**
+     * The {@link ScoringEngine} state of a score, for callers formatting it without building the {@link Score}.
+     */
+    public int state(int index) {
+        Objects.checkIndex(index, size());
+        if (index < head.length) {
+            return head[index];
+        }
+        int offset = index - head.length;
+        if (offset >= 2 * cycles) {
+            return tail[offset - 2 * cycles];
+        }
+        // cycle k starts from the deuce where both players have 3 + k points
+        int cycle = offset >>> 1;
+        int run = Arrays.binarySearch(runEnds, cycle + 1);
+        int advantage = runs[run < 0 ? -run - 1 : run] & 1;
+        int leader = 4 + cycle;
+        int trailer = (offset & 1) == 0 ? 3 + cycle : leader;
+        return advantage == ScoringEngine.PLAYER_1 ? ScoringEngine.fromPoints(leader, trailer)
+                : ScoringEngine.fromPoints(trailer, leader);
+    }
+
+    /**
+     * Compresses a progression as its scores are produced, without ever holding the full list.
+     */
+    public static final class Builder implements ScoreProjection.ProjectionSink, StateSink {
+
+        private char player1;
+        private char player2;
+        private int[] head = new int[8];
+        private int headSize;
+        private int[] runs = new int[0];
+        private int[] runEnds = new int[0];
+        private int runCount;
+        private int cycles;
+        private final int[] pending = new int[2];
+        private int pendingSize;
+        private boolean atDeuce;
+
+        @Override
+        public boolean accept(char player1, char player2, int state) {
+            if (headSize == 0 && !atDeuce) {
+                this.player1 = player1;
+                this.player2 = player2;
+            }
+            if (!atDeuce) {
+                if (headSize == head.length) {
+                    head = Arrays.copyOf(head, headSize * 2);
+                }
+                head[headSize++] = state;
+                atDeuce = ScoringEngine.stateId(state) == ScoringEngine.DEUCE;
+                return true;
+            }
+            pending[pendingSize++] = state;
+            if (pendingSize == 2 && ScoringEngine.stateId(state) == ScoringEngine.DEUCE) {
+                addCycle(ScoringEngine.advantagePlayer(pending[0]));
+                pendingSize = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public CompressedScores scores() {
+            return new CompressedScores(player1, player2, Arrays.copyOf(head, headSize),
+                    Arrays.copyOf(runs, runCount), Arrays.copyOf(runEnds, runCount), Arrays.copyOf(pending, pendingSize));
+        }
+
+        private void addCycle(int advantage) {
+            cycles++;
+            if (runCount > 0 && (runs[runCount - 1] & 1) == advantage) {
+                runs[runCount - 1] += 2;
+                runEnds[runCount - 1] = cycles;
+                return;
+            }
+            if (runCount == runs.length) {
+                runs = Arrays.copyOf(runs, Math.max(4, runCount * 2));
+                runEnds = Arrays.copyOf(runEnds, runs.length);
+            }
+            runs[runCount] = 1 << 1 | advantage;
+            runEnds[runCount++] = cycles;
+        }
+    }
+}
@@ -4,4 +4,4 @@ import org.domain.model.Score;
 
 import java.util.List;
 
-public record GameResult(String sequence, List<Score> scores ) {}
\ No newline at end of file
+public record GameResult(String sequence, List<Score> scores ) implements ScoringResult {}
@@ -0,0 +1,90 @@
+package org.domain.usecase;
+
+import org.domain.cache.BoundedCache;
+import org.domain.cache.CacheStats;
+import org.domain.model.Score;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Caches game progressions by their canonical point pattern.
+ * <p>
+ * A game only depends on which of the two players scored each point, so a sequence is keyed by a string of
+ * {@code 0} (the player who served the first point) and {@code 1} (the other one): "ABABAA" and "xyxyxx" share
+ * the same entry. Values are the letter independent {@link CompressedScores}, so a deuce rally costs a run
+ * instead of a state per point, relabelled with the actual identifiers on every hit.
+ */
+public class GameResultCache {
+
+    private final BoundedCache<String, CompressedScores> cache;
+    private final int maximumSequenceLength;
+
+    public GameResultCache(int maximumSize, int maximumSequenceLength) {
+        this.cache = new BoundedCache<>(maximumSize);
+        this.maximumSequenceLength = maximumSequenceLength;
+    }
+
+    /**
+     * Returns the cached scores of the sequence, or {@code null} when it is not cached or not cacheable.
+     * Invalid sequences are never cacheable so they still go through the processor validation.
+     */
+    public List<Score> get(String sequence) {
+        String key = canonicalKey(sequence);
+        if (key == null) {
+            return null;
+        }
+        CompressedScores scores = cache.get(key);
+        if (scores == null) {
+            return null;
+        }
+        char player1 = Character.toUpperCase(sequence.charAt(0));
+        return scores.withPlayers(player1, otherPlayer(sequence, player1));
+    }
+
+    public void put(String sequence, List<Score> scores) {
+        String key = canonicalKey(sequence);
+        if (key == null) {
+            return;
+        }
+        cache.put(key, CompressedScores.of(scores));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private String canonicalKey(String sequence) {
+        if (sequence == null || sequence.isEmpty() || sequence.length() > maximumSequenceLength) {
+            return null;
+        }
+        char first = Character.toUpperCase(sequence.charAt(0));
+        char second = 0;
+        byte[] pattern = new byte[sequence.length()];
+        for (int i = 0; i < pattern.length; i++) {
+            char c = Character.toUpperCase(sequence.charAt(i));
+            if (!Character.isLetter(c)) {
+                return null;
+            }
+            if (c == first) {
+                pattern[i] = '0';
+            } else if (second == 0 || c == second) {
+                second = c;
+                pattern[i] = '1';
+            } else {
+                return null;
+            }
+        }
+        return second == 0 ? null : new String(pattern, StandardCharsets.ISO_8859_1);
+    }
+
+    private static char otherPlayer(String sequence, char player1) {
+        for (int i = 1; i < sequence.length(); i++) {
+            char c = Character.toUpperCase(sequence.charAt(i));
+            if (c != player1) {
+                return c;
+            }
+        }
+        throw new IllegalStateException("Cached sequence has a single player");
+    }
+}
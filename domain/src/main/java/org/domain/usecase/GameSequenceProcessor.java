@@ -1,68 +1,86 @@
 package org.domain.usecase;
 
-import lombok.extern.slf4j.Slf4j;
-import org.domain.exception.InvalidSequenceException;
 import org.domain.model.GameStatus;
 import org.domain.model.Player;
 import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
 import org.domain.model.TennisGame;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
-@Slf4j
 public class GameSequenceProcessor {
 
 
     public List<Score> processGameSequence(String sequence) {
-        log.info("processing sequence : {}" , sequence);
-        if (sequence == null || sequence.trim().isEmpty()) {
-            throw new InvalidSequenceException("Sequence cannot be null or empty");
-        }
+        List<Score> intermediateScores = new ArrayList<>();
+        processGameSequence(sequence, intermediateScores::add);
+        return intermediateScores;
+    }
 
-        // Extract unique players from sequence
-        Set<Character> uniqueChars = new HashSet<>();
-        for (char c : sequence.toUpperCase().toCharArray()) {
-            if (!Character.isLetter(c)) {
-                throw new InvalidSequenceException("Invalid character in sequence: " + c + ". Only letters are allowed.");
-            }
-            uniqueChars.add(c);
-        }
+    /**
+     * Pushes every intermediate score to the sink as soon as it is computed, until the game is finished or
+     * the sink asks to stop. The whole sequence is validated before the first score is emitted.
+     */
+    public void processGameSequence(CharSequence sequence, ScoreSink sink) {
+        processGameSequence(sequence, SequenceParser.parse(sequence), sink);
+    }
 
-        if (uniqueChars.size() != 2) {
-            throw new InvalidSequenceException("Sequence must contain exactly two different letters. Found: " + uniqueChars.size());
+    /**
+     * Scores a sequence already validated by {@link SequenceParser}. A {@link StateSink} receives the engine
+     * states without any {@link Score} being built.
+     *
+     * @return the number of points processed
+     */
+    public int processGameSequence(CharSequence sequence, SequencePlayers players, ScoreSink sink) {
+        if (sink instanceof StateSink states) {
+            return processStates(sequence, players, states);
         }
+        TennisGame game = new TennisGame(new Player(players.player1()), new Player(players.player2()));
 
-        // Convert to Player objects
-        Character[] playerChars = uniqueChars.toArray(new Character[0]);
-        Player player1 = new Player(playerChars[0]);
-        Player player2 = new Player(playerChars[1]);
+        int length = sequence.length();
+        for (int i = 0; i < length; i++) {
+            Score score = game.addPoint(SequenceParser.scorer(sequence.charAt(i), players.player1()));
 
-        //todo remove maybe ??
-        // Ensure consistent ordering (first player is the one who appears first in sequence)
-        char firstChar = Character.toUpperCase(sequence.charAt(0));
-        if (firstChar != player1.getIdentifier()) {
-            Player temp = player1;
-            player1 = player2;
-            player2 = temp;
+            if (!sink.accept(score) || score.status() == GameStatus.FINISHED) {
+                return i + 1; // Game is over
+            }
         }
+        return length;
+    }
 
-        TennisGame game = new TennisGame(player1, player2);
-        List<Score> intermediateScores = new ArrayList<>();
-
-        for (char c : sequence.toUpperCase().toCharArray()) {
-            Player currentPlayer = (c == player1.getIdentifier()) ? player1 : player2;
-            Score score = game.addPoint(currentPlayer);
-            intermediateScores.add(score);
-
-            if (score.status() == GameStatus.FINISHED) {
-                break; // Game is over
+    private static int processStates(CharSequence sequence, SequencePlayers players, StateSink sink) {
+        char player1 = players.player1();
+        char player2 = players.player2();
+        int state = ScoringEngine.INITIAL;
+        int length = sequence.length();
+        for (int i = 0; i < length; i++) {
+            state = ScoringEngine.next(state, SequenceParser.scorer(sequence.charAt(i), player1));
+            if (!sink.accept(player1, player2, state) || ScoringEngine.isFinished(state)) {
+                return i + 1;
             }
         }
+        return length;
+    }
 
-        return intermediateScores;
+    /**
+     * Plays a packed sequence on the bare {@link ScoringEngine}, storing the {@link ScoringEngine#stateId(int)}
+     * reached after each point until the game is finished. No score is materialised.
+     *
+     * @param states receives one state code per point, at least {@link PackedSequence#length()} long
+     * @return the number of points processed
+     */
+    public int processPackedSequence(PackedSequence sequence, byte[] states) {
+        int state = ScoringEngine.INITIAL;
+        int length = sequence.length();
+        for (int i = 0; i < length; i++) {
+            state = ScoringEngine.next(state, sequence.scorer(i));
+            states[i] = (byte) ScoringEngine.stateId(state);
+            if (ScoringEngine.isFinished(state)) {
+                return i + 1;
+            }
+        }
+        return length;
     }
 
 
@@ -0,0 +1,25 @@
+package org.domain.usecase;
+
+/**
+ * Port recording every change of the live games, so they can be rebuilt after a restart.
+ */
+public interface LiveGameJournal {
+
+    LiveGameJournal NONE = new LiveGameJournal() {
+        @Override
+        public void recordState(long gameId, char player1, char player2, int state) {
+        }
+
+        @Override
+        public void recordRemoved(long gameId) {
+        }
+    };
+
+    /**
+     * Records the {@link org.domain.model.ScoringEngine} state reached by a game. Records of the same game may
+     * arrive out of order when points are added concurrently, the state with the most points played wins.
+     */
+    void recordState(long gameId, char player1, char player2, int state);
+
+    void recordRemoved(long gameId);
+}
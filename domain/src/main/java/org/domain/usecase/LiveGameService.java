@@ -0,0 +1,86 @@
+package org.domain.usecase;
+
+import org.domain.exception.GameStateException;
+import org.domain.model.LiveGame;
+import org.domain.model.Score;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Live scoring sessions: a client creates a game once and then sends one point at a time, each update being
+ * O(1) instead of rescoring the whole sequence.
+ */
+public class LiveGameService {
+    private final LiveGameStore store;
+    private final Duration idleTimeout;
+    private final LongSupplier clock;
+    private final LiveGameJournal journal;
+    private final LiveScoreListener listener;
+
+    public LiveGameService(LiveGameStore store, Duration idleTimeout, LongSupplier clock) {
+        this(store, idleTimeout, clock, LiveGameJournal.NONE);
+    }
+
+    public LiveGameService(LiveGameStore store, Duration idleTimeout, LongSupplier clock, LiveGameJournal journal) {
+        this(store, idleTimeout, clock, journal, LiveScoreListener.NONE);
+    }
+
+    public LiveGameService(LiveGameStore store, Duration idleTimeout, LongSupplier clock, LiveGameJournal journal,
+                           LiveScoreListener listener) {
+        this.store = store;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.journal = journal;
+        this.listener = listener;
+    }
+
+    public LiveGame create(char player1, char player2) {
+        char first = SequenceParser.upperCaseLetter(player1);
+        char second = SequenceParser.upperCaseLetter(player2);
+        if (first == 0 || second == 0) {
+            throw new GameStateException("Players must be identified by a letter");
+        }
+        LiveGame game;
+        do {
+            game = new LiveGame(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE), first, second, clock.getAsLong());
+        } while (!store.add(game));
+        journal.recordState(game.getId(), first, second, game.state());
+        return game;
+    }
+
+    /**
+     * @return the score after the point, or empty when the game does not exist or was evicted
+     */
+    public Optional<Score> addPoint(long gameId, char player) {
+        LiveGame game = store.get(gameId);
+        if (game == null) {
+            return Optional.empty();
+        }
+        int state = game.addPoint(player, clock.getAsLong());
+        journal.recordState(gameId, game.getPlayer1(), game.getPlayer2(), state);
+        listener.scoreChanged(gameId, game.getPlayer1(), game.getPlayer2(), state);
+        return Optional.of(Score.of(game.getPlayer1(), game.getPlayer2(), state));
+    }
+
+    public Optional<Score> currentScore(long gameId) {
+        LiveGame game = store.get(gameId);
+        if (game == null) {
+            return Optional.empty();
+        }
+        game.touch(clock.getAsLong());
+        return Optional.of(game.currentScore());
+    }
+
+    /**
+     * Drops the games that received no request within the idle timeout.
+     */
+    public void evictIdleGames() {
+        store.evictIdle(clock.getAsLong() - idleTimeout.toMillis(), game -> {
+            journal.recordRemoved(game.getId());
+            listener.gameRemoved(game.getId());
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package org.domain.usecase;
+
+import org.domain.model.LiveGame;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory store of live games, split in shards selected by the game id so that idle game eviction and
+ * snapshots walk one shard at a time instead of the whole store.
+ */
+public class LiveGameStore {
+
+    private static final int SHARDS = 64;
+
+    private final ConcurrentHashMap<Long, LiveGame>[] shards;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public LiveGameStore() {
+        shards = new ConcurrentHashMap[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public LiveGame get(long id) {
+        return shardOf(id).get(id);
+    }
+
+    /**
+     * @return {@code false} when a game already uses this id
+     */
+    public boolean add(LiveGame game) {
+        return shardOf(game.getId()).putIfAbsent(game.getId(), game) == null;
+    }
+
+    public void put(LiveGame game) {
+        shardOf(game.getId()).put(game.getId(), game);
+    }
+
+    public boolean remove(long id) {
+        return shardOf(id).remove(id) != null;
+    }
+
+    /**
+     * Removes the games not accessed since the threshold and hands each of them to the listener.
+     */
+    public void evictIdle(long threshold, Consumer<LiveGame> listener) {
+        for (ConcurrentHashMap<Long, LiveGame> shard : shards) {
+            shard.values().removeIf(game -> {
+                if (game.isIdleSince(threshold)) {
+                    listener.accept(game);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (ConcurrentHashMap<Long, LiveGame> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    public Stream<LiveGame> games() {
+        return Stream.of(shards).map(ConcurrentHashMap::values).flatMap(Collection::stream);
+    }
+
+    private ConcurrentHashMap<Long, LiveGame> shardOf(long id) {
+        return shards[(int) (id ^ (id >>> 32)) & (SHARDS - 1)];
+    }
+}
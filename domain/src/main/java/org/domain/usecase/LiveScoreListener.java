@@ -0,0 +1,27 @@
+package org.domain.usecase;
+
+/**
+ * Port notified of every live game change, so the new scores can be pushed to subscribers instead of
+ * being polled.
+ */
+public interface LiveScoreListener {
+
+    LiveScoreListener NONE = new LiveScoreListener() {
+        @Override
+        public void scoreChanged(long gameId, char player1, char player2, int state) {
+        }
+
+        @Override
+        public void gameRemoved(long gameId) {
+        }
+    };
+
+    /**
+     * Called with the {@link org.domain.model.ScoringEngine} state reached by a game. Notifications of the
+     * same game may arrive out of order when points are added concurrently, the state with the most points
+     * played is the latest.
+     */
+    void scoreChanged(long gameId, char player1, char player2, int state);
+
+    void gameRemoved(long gameId);
+}
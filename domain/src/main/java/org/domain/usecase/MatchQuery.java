@@ -0,0 +1,52 @@
+package org.domain.usecase;
+
+import org.domain.exception.InvalidSequenceException;
+import org.domain.model.MatchEngine;
+import org.domain.model.MatchFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores whole matches from a point sequence in the same two letter format as a single game, the first
+ * scorer being player 1. Each point is one {@link MatchEngine} transition on a {@code long}, only completed
+ * sets are recorded on the side.
+ */
+public class MatchQuery {
+
+    private final ScoringMetrics scoringMetrics;
+
+    public MatchQuery(ScoringMetrics scoringMetrics) {
+        this.scoringMetrics = scoringMetrics;
+    }
+
+    /**
+     * @throws InvalidSequenceException when the sequence is rejected
+     */
+    public MatchResult execute(String sequence, MatchFormat format) {
+        ParseResult parsed = SequenceParser.tryParse(sequence);
+        if (parsed instanceof ValidationError error) {
+            scoringMetrics.sequenceRejected(error.code());
+            throw error.toException();
+        }
+        SequencePlayers players = (SequencePlayers) parsed;
+        MatchEngine engine = new MatchEngine(format);
+        List<MatchResult.SetScore> sets = new ArrayList<>(format.bestOf());
+        long state = MatchEngine.INITIAL;
+        int length = sequence.length();
+        int points = 0;
+        // the engine folds the tie-break points, counting them lets the sets report the actual ones
+        int tieBreakPoints = 0;
+        while (points < length && !MatchEngine.isFinished(state)) {
+            int scorer = SequenceParser.scorer(sequence.charAt(points++), players.player1());
+            long next = engine.next(state, scorer);
+            if (MatchEngine.sets(next, scorer) != MatchEngine.sets(state, scorer)) {
+                sets.add(MatchResult.SetScore.completedBy(state, scorer, tieBreakPoints));
+            }
+            tieBreakPoints = MatchEngine.isTieBreak(next) ? tieBreakPoints + (MatchEngine.isTieBreak(state) ? 1 : 0) : 0;
+            state = next;
+        }
+        scoringMetrics.sequenceScored(length, points);
+        return new MatchResult(sequence, players.player1(), players.player2(), format, state, sets, points, tieBreakPoints);
+    }
+}
@@ -0,0 +1,57 @@
+package org.domain.usecase;
+
+import org.domain.model.MatchEngine;
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+
+import java.util.List;
+
+/**
+ * Outcome of a scored match sequence.
+ *
+ * @param state        the {@link MatchEngine} state after the last point played
+ * @param sets         the completed sets, in the order they were played
+ * @param pointsPlayed number of points scored, the points after the one finishing the match being ignored
+ * @param tieBreakPointsPlayed number of points played in the current tie-break, {@code 0} outside one
+ */
+public record MatchResult(String sequence, char player1, char player2, MatchFormat format, long state,
+                          List<SetScore> sets, int pointsPlayed, int tieBreakPointsPlayed) {
+
+    /**
+     * @param tieBreakLoserPoints points of the player who lost the tie-break ending the set, {@code -1} when
+     *                            the set was not decided by a tie-break
+     */
+    public record SetScore(int player1Games, int player2Games, int tieBreakLoserPoints) {
+
+        /**
+         * The set completed by the scorer winning the point played from the given state.
+         *
+         * @param tieBreakPointsPlayed points played in the tie-break before that point
+         */
+        static SetScore completedBy(long state, int scorer, int tieBreakPointsPlayed) {
+            int player1Games = MatchEngine.games(state, ScoringEngine.PLAYER_1) + (scorer == ScoringEngine.PLAYER_1 ? 1 : 0);
+            int player2Games = MatchEngine.games(state, ScoringEngine.PLAYER_2) + (scorer == ScoringEngine.PLAYER_2 ? 1 : 0);
+            int tieBreakLoserPoints = MatchEngine.isTieBreak(state)
+                    ? MatchEngine.tieBreakPoints(state, 1 - scorer, tieBreakPointsPlayed) : -1;
+            return new SetScore(player1Games, player2Games, tieBreakLoserPoints);
+        }
+    }
+
+    /**
+     * Actual points of the current tie-break.
+     */
+    public int tieBreakPoints(int player) {
+        return MatchEngine.tieBreakPoints(state, player, tieBreakPointsPlayed);
+    }
+
+    /**
+     * @return the identifier of the winner, or {@code 0} while the match is in progress
+     */
+    public char winner() {
+        return switch (MatchEngine.winner(state)) {
+            case ScoringEngine.PLAYER_1 -> player1;
+            case ScoringEngine.PLAYER_2 -> player2;
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package org.domain.usecase;
+
+import org.domain.model.ScoringEngine;
+
+/**
+ * A point sequence stored as one bit per point: bit {@code i} of the words, lowest bits first, is set when
+ * {@code player2} won point {@code i}. Sixty-four points fit in a {@code long} where the text form needs a
+ * character each.
+ */
+public record PackedSequence(char player1, char player2, int length, long[] points) {
+
+    public PackedSequence {
+        if (SequenceParser.upperCaseLetter(player1) != player1 || SequenceParser.upperCaseLetter(player2) != player2
+                || player1 == player2) {
+            throw new IllegalArgumentException("Players must be two different upper-case letters");
+        }
+        if (length < 1 || points.length < words(length)) {
+            throw new IllegalArgumentException("Sequence must hold between 1 and " + (long) points.length * Long.SIZE + " points");
+        }
+    }
+
+    /**
+     * Packs a text sequence, {@code player1} being its first scorer.
+     *
+     * @throws org.domain.exception.InvalidSequenceException when the sequence is rejected
+     */
+    public static PackedSequence pack(CharSequence sequence) {
+        SequencePlayers players = SequenceParser.parse(sequence);
+        long[] points = packPoints(sequence, players.player1(), new long[words(sequence.length())]);
+        return new PackedSequence(players.player1(), players.player2(), sequence.length(), points);
+    }
+
+    /**
+     * Packs the points of an already validated sequence into the buffer, or into a larger one when it is too
+     * small, so a caller scoring many sequences can keep reusing the returned array.
+     */
+    public static long[] packPoints(CharSequence sequence, char player1, long[] buffer) {
+        int length = sequence.length();
+        int words = words(length);
+        long[] points = buffer.length < words ? new long[Math.max(words, buffer.length * 2)] : buffer;
+        for (int word = 0, start = 0; word < words; word++, start += Long.SIZE) {
+            long bits = 0;
+            int end = Math.min(start + Long.SIZE, length);
+            for (int i = start; i < end; i++) {
+                bits |= (long) SequenceParser.scorer(sequence.charAt(i), player1) << i;
+            }
+            points[word] = bits;
+        }
+        return points;
+    }
+
+    /**
+     * @return {@link ScoringEngine#PLAYER_1} or {@link ScoringEngine#PLAYER_2}
+     */
+    public int scorer(int index) {
+        return (int) (points[index >>> 6] >>> index) & 1;
+    }
+
+    /**
+     * Whether a text sequence holds the same points, letters being compared regardless of case.
+     */
+    public boolean matches(CharSequence sequence) {
+        if (sequence.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char expected = scorer(i) == ScoringEngine.PLAYER_1 ? player1 : player2;
+            if (SequenceParser.upperCaseLetter(sequence.charAt(i)) != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int words(int length) {
+        return (length + Long.SIZE - 1) >>> 6;
+    }
+}
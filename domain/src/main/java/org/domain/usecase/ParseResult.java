@@ -0,0 +1,7 @@
+package org.domain.usecase;
+
+/**
+ * Outcome of {@link SequenceParser#tryParse(CharSequence)}.
+ */
+public sealed interface ParseResult permits SequencePlayers, ValidationError {
+}
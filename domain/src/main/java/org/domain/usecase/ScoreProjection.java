@@ -0,0 +1,93 @@
+package org.domain.usecase;
+
+import org.domain.model.GameStatus;
+import org.domain.model.Score;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ready-made views over the score progression, for callers that do not need every point.
+ */
+public enum ScoreProjection {
+    /** Every score, deuce rallies being kept run-length encoded as {@link CompressedScores}. */
+    ALL,
+    FINAL,
+    WINNER,
+    EVERY_NTH;
+
+    /**
+     * @param interval only used by {@link #EVERY_NTH}, keeps the scores at points {@code n, 2n, 3n...}
+     */
+    public ProjectionSink newSink(int interval) {
+        return switch (this) {
+            case ALL -> new CompressedScores.Builder();
+            case FINAL -> new FinalSink();
+            case WINNER -> new WinnerSink();
+            case EVERY_NTH -> new EveryNthSink(interval);
+        };
+    }
+
+    public interface ProjectionSink extends ScoreSink {
+        List<Score> scores();
+    }
+
+    private static final class FinalSink implements ProjectionSink {
+        private Score last;
+
+        @Override
+        public boolean accept(Score score) {
+            last = score;
+            return true;
+        }
+
+        @Override
+        public List<Score> scores() {
+            return last == null ? List.of() : List.of(last);
+        }
+    }
+
+    private static final class WinnerSink implements ProjectionSink {
+        private Score finished;
+
+        @Override
+        public boolean accept(Score score) {
+            if (score.status() == GameStatus.FINISHED) {
+                finished = score;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public List<Score> scores() {
+            return finished == null ? List.of() : List.of(finished);
+        }
+    }
+
+    private static final class EveryNthSink implements ProjectionSink {
+        private final int interval;
+        private final List<Score> scores = new ArrayList<>();
+        private int count;
+
+        private EveryNthSink(int interval) {
+            if (interval < 1) {
+                throw new IllegalArgumentException("Interval must be at least 1");
+            }
+            this.interval = interval;
+        }
+
+        @Override
+        public boolean accept(Score score) {
+            if (++count % interval == 0) {
+                scores.add(score);
+            }
+            return true;
+        }
+
+        @Override
+        public List<Score> scores() {
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.domain.usecase;
+
+import org.domain.cache.BoundedCache;
+import org.domain.cache.CacheStats;
+
+/**
+ * Scores a window of a long sequence. The first query on a sequence builds its {@link ScoredSequenceIndex},
+ * later ones only replay the points between the closest checkpoint and the end of the window.
+ * <p>
+ * The indexes are keyed by a 64-bit hash of the sequence rather than by its text, which would weigh eight
+ * times the packed points the index already holds, and a hit is checked against those points.
+ */
+public class ScoreRangeQuery {
+
+    private final BoundedCache<Long, ScoredSequenceIndex> indexes;
+    private final int interval;
+    private final int maximumWindow;
+    private final ScoringMetrics scoringMetrics;
+
+    /**
+     * @param maximumWindow largest number of scores a single window may return
+     */
+    public ScoreRangeQuery(int maximumSize, int interval, int maximumWindow, ScoringMetrics scoringMetrics) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1");
+        }
+        if (maximumWindow < 1) {
+            throw new IllegalArgumentException("Maximum window must be at least 1");
+        }
+        this.indexes = new BoundedCache<>(maximumSize);
+        this.interval = interval;
+        this.maximumWindow = maximumWindow;
+        this.scoringMetrics = scoringMetrics;
+    }
+
+    /**
+     * @param from index of the first point, starting at {@code 0}
+     * @param to   index after the last point, capped to the points played
+     * @return the scores, or a {@link ValidationErrorCode#INVALID_RANGE} error when the window does not start
+     * within the points played or holds more than the maximum window
+     */
+    public ScoringResult evaluate(String sequence, int from, int to) {
+        long key = hash(sequence);
+        ScoredSequenceIndex index = indexes.get(key);
+        if (index == null || !index.matches(sequence)) {
+            ParseResult parsed = SequenceParser.tryParse(sequence);
+            if (parsed instanceof ValidationError error) {
+                scoringMetrics.sequenceRejected(error.code());
+                return error;
+            }
+            index = ScoredSequenceIndex.build(PackedSequence.pack(sequence), interval);
+            scoringMetrics.sequenceScored(sequence.length(), index.pointsPlayed());
+            indexes.put(key, index);
+        }
+        int end = Math.min(to, index.pointsPlayed());
+        if (from < 0 || from > end) {
+            return new ValidationError(ValidationErrorCode.INVALID_RANGE, -1, "Range " + from + " to " + to
+                    + " is outside the " + index.pointsPlayed() + " points played");
+        }
+        if (end - from > maximumWindow) {
+            return new ValidationError(ValidationErrorCode.INVALID_RANGE, -1, "Range " + from + " to " + to
+                    + " holds more than " + maximumWindow + " scores");
+        }
+        return new GameResult(sequence, index.scores(from, end));
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the characters.
+     */
+    private static long hash(String sequence) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < sequence.length(); i++) {
+            hash = (hash ^ sequence.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    public CacheStats stats() {
+        return indexes.stats();
+    }
+}
@@ -0,0 +1,15 @@
+package org.domain.usecase;
+
+import org.domain.model.Score;
+
+/**
+ * Receives the intermediate scores of a game as they are computed.
+ */
+@FunctionalInterface
+public interface ScoreSink {
+
+    /**
+     * @return {@code false} to stop processing the rest of the sequence
+     */
+    boolean accept(Score score);
+}
@@ -0,0 +1,98 @@
+package org.domain.usecase;
+
+import org.domain.model.PackedGameEvaluator;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Random access to the scores of a long sequence without keeping its progression.
+ * <p>
+ * The index keeps the packed points and the {@link ScoringEngine} state reached before every
+ * {@code interval}-th point, so any score is rebuilt by replaying at most {@code interval} points from the
+ * closest checkpoint. That is one bit per point plus one {@code int} per interval, where a {@code List<Score>}
+ * holds three objects per point.
+ */
+public final class ScoredSequenceIndex {
+
+    private final PackedSequence sequence;
+    private final int interval;
+    private final int[] checkpoints;
+    private final int pointsPlayed;
+
+    private ScoredSequenceIndex(PackedSequence sequence, int interval, int[] checkpoints, int pointsPlayed) {
+        this.sequence = sequence;
+        this.interval = interval;
+        this.checkpoints = checkpoints;
+        this.pointsPlayed = pointsPlayed;
+    }
+
+    /**
+     * Plays the sequence once, a byte of points at a time, recording a checkpoint every {@code interval} points.
+     */
+    public static ScoredSequenceIndex build(PackedSequence sequence, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1");
+        }
+        int length = sequence.length();
+        int[] checkpoints = new int[(int) ((length + (long) interval - 1) / interval)];
+        int state = ScoringEngine.INITIAL;
+        int count = 0;
+        int end = 0;
+        while (end < length && !ScoringEngine.isFinished(state)) {
+            checkpoints[count++] = state;
+            PackedGameEvaluator.Evaluation evaluation = PackedGameEvaluator.evaluate(state, sequence.points(), end,
+                    (int) Math.min((long) end + interval, length));
+            state = evaluation.state();
+            end = evaluation.end();
+        }
+        return new ScoredSequenceIndex(sequence, interval, count == checkpoints.length ? checkpoints
+                : Arrays.copyOf(checkpoints, count), end);
+    }
+
+    /**
+     * Whether the index was built from the given text sequence.
+     */
+    public boolean matches(CharSequence text) {
+        return sequence.matches(text);
+    }
+
+    /**
+     * Number of points scored, the points after the one finishing the game being ignored.
+     */
+    public int pointsPlayed() {
+        return pointsPlayed;
+    }
+
+    /**
+     * @return the score after point {@code index}, the first point being {@code 0}
+     */
+    public Score scoreAt(int index) {
+        Objects.checkIndex(index, pointsPlayed);
+        return Score.of(sequence.player1(), sequence.player2(), stateBefore(index + 1));
+    }
+
+    /**
+     * @return the scores after points {@code from} (inclusive) to {@code to} (exclusive)
+     */
+    public List<Score> scores(int from, int to) {
+        Objects.checkFromToIndex(from, to, pointsPlayed);
+        List<Score> scores = new ArrayList<>(to - from);
+        int state = stateBefore(from);
+        for (int i = from; i < to; i++) {
+            state = ScoringEngine.next(state, sequence.scorer(i));
+            scores.add(Score.of(sequence.player1(), sequence.player2(), state));
+        }
+        return scores;
+    }
+
+    private int stateBefore(int index) {
+        int checkpoint = Math.min(index / interval, checkpoints.length - 1);
+        int start = checkpoint * interval;
+        return PackedGameEvaluator.evaluate(checkpoints[checkpoint], sequence.points(), start, index).state();
+    }
+}
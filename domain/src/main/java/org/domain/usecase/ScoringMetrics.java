@@ -0,0 +1,21 @@
+package org.domain.usecase;
+
+/**
+ * Port through which the use cases report what they process, implemented by the infrastructure.
+ */
+public interface ScoringMetrics {
+
+    ScoringMetrics NOOP = new ScoringMetrics() {
+        @Override
+        public void sequenceScored(int sequenceLength, int pointsProcessed) {
+        }
+
+        @Override
+        public void sequenceRejected(ValidationErrorCode reason) {
+        }
+    };
+
+    void sequenceScored(int sequenceLength, int pointsProcessed);
+
+    void sequenceRejected(ValidationErrorCode reason);
+}
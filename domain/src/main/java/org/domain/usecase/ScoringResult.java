@@ -0,0 +1,8 @@
+package org.domain.usecase;
+
+/**
+ * Outcome of {@link TennisScoreQuery#evaluate(String, ScoreProjection, int)}: the scored game, or why the
+ * sequence was rejected.
+ */
+public sealed interface ScoringResult permits GameResult, ValidationError {
+}
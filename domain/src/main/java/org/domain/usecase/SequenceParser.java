@@ -0,0 +1,94 @@
+package org.domain.usecase;
+
+import org.domain.model.ScoringEngine;
+
+/**
+ * Validates a point sequence and finds its two players in a single pass over the characters, without
+ * upper-casing or copying the input.
+ * <p>
+ * ASCII letters, by far the common case, are checked and upper-cased with a mask; other characters fall back
+ * to {@link Character}. The detailed error messages are only computed once a sequence is known to be invalid,
+ * and {@link #tryParse(CharSequence)} reports them without the cost of an exception.
+ */
+public final class SequenceParser {
+
+    private SequenceParser() {
+    }
+
+    public static SequencePlayers parse(CharSequence sequence) {
+        return switch (tryParse(sequence)) {
+            case SequencePlayers players -> players;
+            case ValidationError error -> throw error.toException();
+        };
+    }
+
+    /**
+     * Same as {@link #parse(CharSequence)} but reports an invalid sequence as a {@link ValidationError}
+     * instead of throwing.
+     */
+    public static ParseResult tryParse(CharSequence sequence) {
+        if (sequence == null || sequence.isEmpty()) {
+            return emptySequence();
+        }
+        int length = sequence.length();
+        char first = 0;
+        char second = 0;
+        int extraPlayer = -1;
+        for (int i = 0; i < length; i++) {
+            char c = upperCaseLetter(sequence.charAt(i));
+            if (c == 0) {
+                return invalidCharacter(sequence, i);
+            }
+            if (c != first) {
+                if (first == 0) {
+                    first = c;
+                } else if (second == 0) {
+                    second = c;
+                } else if (c != second && extraPlayer < 0) {
+                    extraPlayer = i;
+                }
+            }
+        }
+        if (second == 0 || extraPlayer >= 0) {
+            return new ValidationError(ValidationErrorCode.WRONG_PLAYER_COUNT, extraPlayer,
+                    "Sequence must contain exactly two different letters. Found: " + countPlayers(sequence));
+        }
+        return new SequencePlayers(first, second);
+    }
+
+    /**
+     * Maps a character of an already validated sequence to {@link ScoringEngine#PLAYER_1} or
+     * {@link ScoringEngine#PLAYER_2}.
+     */
+    public static int scorer(char c, char player1) {
+        return upperCaseLetter(c) == player1 ? ScoringEngine.PLAYER_1 : ScoringEngine.PLAYER_2;
+    }
+
+    /**
+     * @return the upper-cased letter, or {@code 0} when the character is not a letter
+     */
+    static char upperCaseLetter(char c) {
+        if (c < 0x80) {
+            char upper = (char) (c & 0xDF);
+            return upper >= 'A' && upper <= 'Z' ? upper : 0;
+        }
+        return Character.isLetter(c) ? Character.toUpperCase(c) : 0;
+    }
+
+    private static ValidationError emptySequence() {
+        return new ValidationError(ValidationErrorCode.EMPTY_SEQUENCE, -1, "Sequence cannot be null or empty");
+    }
+
+    private static ValidationError invalidCharacter(CharSequence sequence, int index) {
+        if (sequence.toString().trim().isEmpty()) {
+            return emptySequence();
+        }
+        char c = Character.toUpperCase(sequence.charAt(index));
+        return new ValidationError(ValidationErrorCode.INVALID_CHARACTER, index,
+                "Invalid character in sequence: " + c + ". Only letters are allowed.");
+    }
+
+    private static long countPlayers(CharSequence sequence) {
+        return sequence.chars().map(c -> upperCaseLetter((char) c)).distinct().count();
+    }
+}
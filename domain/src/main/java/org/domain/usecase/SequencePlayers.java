@@ -0,0 +1,7 @@
+package org.domain.usecase;
+
+/**
+ * The two upper-cased player identifiers of a sequence, {@code player1} being the one who scored first.
+ */
+public record SequencePlayers(char player1, char player2) implements ParseResult {
+}
@@ -0,0 +1,42 @@
+package org.domain.usecase;
+
+import org.domain.model.ScoringEngine;
+
+/**
+ * Plays a validated sequence one point at a time on the {@link ScoringEngine}, for callers pulling the
+ * states at their own pace. Nothing is held besides the sequence and the current state, and the sequence is
+ * recorded as scored once the cursor is exhausted.
+ */
+public final class StateCursor {
+
+    private final CharSequence sequence;
+    private final SequencePlayers players;
+    private final ScoringMetrics scoringMetrics;
+    private int state = ScoringEngine.INITIAL;
+    private int points;
+
+    public StateCursor(CharSequence sequence, SequencePlayers players, ScoringMetrics scoringMetrics) {
+        this.sequence = sequence;
+        this.players = players;
+        this.scoringMetrics = scoringMetrics;
+    }
+
+    public SequencePlayers players() {
+        return players;
+    }
+
+    public boolean hasNext() {
+        return points < sequence.length() && !ScoringEngine.isFinished(state);
+    }
+
+    /**
+     * @return the state after the next point
+     */
+    public int next() {
+        state = ScoringEngine.next(state, SequenceParser.scorer(sequence.charAt(points++), players.player1()));
+        if (!hasNext()) {
+            scoringMetrics.sequenceScored(sequence.length(), points);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,21 @@
+package org.domain.usecase;
+
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+
+/**
+ * A {@link ScoreSink} taking the bare {@link ScoringEngine} states, so {@link GameSequenceProcessor} plays the
+ * game on the engine and builds no {@link Score} per point.
+ */
+public interface StateSink extends ScoreSink {
+
+    /**
+     * @return {@code false} to stop processing the rest of the sequence
+     */
+    boolean accept(char player1, char player2, int state);
+
+    @Override
+    default boolean accept(Score score) {
+        return accept(score.player1().getIdentifier(), score.player2().getIdentifier(), score.state());
+    }
+}
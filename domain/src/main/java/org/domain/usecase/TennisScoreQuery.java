@@ -1,18 +1,126 @@
 package org.domain.usecase;
 
+import org.domain.exception.InvalidSequenceException;
+import org.domain.model.Score;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 
 public class TennisScoreQuery {
     private final GameSequenceProcessor gameSequenceProcessor;
+    private final GameResultCache gameResultCache;
+    private final ScoringMetrics scoringMetrics;
 
 
     public TennisScoreQuery(GameSequenceProcessor tennisScoreService) {
+        this(tennisScoreService, null);
+    }
+
+    public TennisScoreQuery(GameSequenceProcessor tennisScoreService, GameResultCache gameResultCache) {
+        this(tennisScoreService, gameResultCache, ScoringMetrics.NOOP);
+    }
+
+    public TennisScoreQuery(GameSequenceProcessor tennisScoreService, GameResultCache gameResultCache,
+                            ScoringMetrics scoringMetrics) {
         this.gameSequenceProcessor = tennisScoreService;
+        this.gameResultCache = gameResultCache;
+        this.scoringMetrics = scoringMetrics;
     }
 
     public GameResult execute(String sequence) {
-        var scores = gameSequenceProcessor.processGameSequence(sequence);
-        return new GameResult(sequence, scores);
+        return execute(sequence, ScoreProjection.ALL, 1);
+    }
+
+    /**
+     * Scores the sequence keeping only the points selected by the projection, without building the full
+     * progression unless it is already cached.
+     *
+     * @throws InvalidSequenceException when the sequence is rejected
+     */
+    public GameResult execute(String sequence, ScoreProjection projection, int interval) {
+        return switch (evaluate(sequence, projection, interval)) {
+            case GameResult result -> result;
+            case ValidationError error -> throw error.toException();
+        };
+    }
+
+    /**
+     * Same as {@link #execute(String, ScoreProjection, int)} but reports an invalid sequence as a
+     * {@link ValidationError} instead of throwing.
+     */
+    public ScoringResult evaluate(String sequence, ScoreProjection projection, int interval) {
+        ScoreProjection.ProjectionSink sink = projection.newSink(interval);
+        List<Score> cached = gameResultCache == null ? null : gameResultCache.get(sequence);
+        if (cached != null) {
+            scoringMetrics.sequenceScored(sequence.length(), cached.size());
+            if (projection == ScoreProjection.ALL) {
+                return new GameResult(sequence, cached);
+            }
+            for (Score score : cached) {
+                if (!sink.accept(score)) {
+                    break;
+                }
+            }
+            return new GameResult(sequence, sink.scores());
+        }
+
+        ParseResult parsed = SequenceParser.tryParse(sequence);
+        if (parsed instanceof ValidationError error) {
+            scoringMetrics.sequenceRejected(error.code());
+            return error;
+        }
+        int points = gameSequenceProcessor.processGameSequence(sequence, (SequencePlayers) parsed, sink);
+        scoringMetrics.sequenceScored(sequence.length(), points);
+        if (gameResultCache != null && projection == ScoreProjection.ALL) {
+            gameResultCache.put(sequence, sink.scores());
+        }
+        return new GameResult(sequence, sink.scores());
+    }
+
+    /**
+     * Pushes every score to the sink, or returns the validation error without emitting anything.
+     */
+    public Optional<ValidationError> stream(String sequence, ScoreSink sink) {
+        ParseResult parsed = SequenceParser.tryParse(sequence);
+        if (parsed instanceof ValidationError error) {
+            scoringMetrics.sequenceRejected(error.code());
+            return Optional.of(error);
+        }
+        int points = gameSequenceProcessor.processGameSequence(sequence, (SequencePlayers) parsed, sink);
+        scoringMetrics.sequenceScored(sequence.length(), points);
+        return Optional.empty();
+    }
+
+    /**
+     * Validates a sequence to be played lazily through {@link #cursor(String, SequencePlayers)}, recording
+     * its rejection like the other entry points.
+     */
+    public ParseResult parse(String sequence) {
+        ParseResult parsed = SequenceParser.tryParse(sequence);
+        if (parsed instanceof ValidationError error) {
+            scoringMetrics.sequenceRejected(error.code());
+        }
+        return parsed;
+    }
+
+    /**
+     * Plays a sequence validated by {@link #parse(String)} one point at a time, bypassing the cache.
+     */
+    public StateCursor cursor(String sequence, SequencePlayers players) {
+        return new StateCursor(sequence, players, scoringMetrics);
+    }
+
+    /**
+     * Scores a packed sequence into one {@link org.domain.model.ScoringEngine} state code per point played,
+     * bypassing the cache which is keyed by the text form.
+     */
+    public byte[] stateCodes(PackedSequence sequence) {
+        byte[] states = new byte[sequence.length()];
+        int points = gameSequenceProcessor.processPackedSequence(sequence, states);
+        scoringMetrics.sequenceScored(sequence.length(), points);
+        return points == states.length ? states : Arrays.copyOf(states, points);
     }
 
 
@@ -0,0 +1,16 @@
+package org.domain.usecase;
+
+import org.domain.exception.InvalidSequenceException;
+
+/**
+ * Why a sequence was rejected.
+ *
+ * @param position index of the first offending character, {@code -1} when the whole sequence is at fault
+ */
+public record ValidationError(ValidationErrorCode code, int position, String message)
+        implements ParseResult, ScoringResult {
+
+    public InvalidSequenceException toException() {
+        return new InvalidSequenceException(message, code.name(), position);
+    }
+}
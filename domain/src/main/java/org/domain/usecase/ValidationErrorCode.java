@@ -0,0 +1,9 @@
+package org.domain.usecase;
+
+public enum ValidationErrorCode {
+    EMPTY_SEQUENCE,
+    INVALID_CHARACTER,
+    WRONG_PLAYER_COUNT,
+    INVALID_RANGE,
+    BATCH_TOO_LARGE
+}
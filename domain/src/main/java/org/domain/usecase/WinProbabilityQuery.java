@@ -0,0 +1,224 @@
+package org.domain.usecase;
+
+import org.domain.model.MatchEngine;
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Probability that player 1 wins the game, or the match, from a given state when player 1 wins each point
+ * with probability {@code p}, points being independent.
+ * <p>
+ * The Markov chain of a game is solved once for a grid of {@code p} values, between 0 and 1 inclusive, into a
+ * table per {@link ScoringEngine} state; deuce and every later tie have the closed form {@code p² / (p² + q²)}.
+ * Matches are solved the same way per {@link MatchFormat} and per level (game points, tie-break points, games of
+ * a set, sets), lazily on the first query for a format. A query is then a few lookups and a linear
+ * interpolation between the two closest grid values.
+ */
+public class WinProbabilityQuery {
+
+    private static final int GAME_POINTS = 4;
+    private static final int TIE_BREAK_POINTS = MatchFormat.TIE_BREAK_POINTS;
+    private static final int GAMES = MatchFormat.GAMES_PER_SET;
+    private static final int POINT_SIZE = GAME_POINTS + 1;
+    private static final int SET_SIZE = TIE_BREAK_POINTS + 1;
+
+    private final int gridSize;
+    private final double[] gameTable;
+    private final ConcurrentHashMap<MatchFormat, MatchTables> matchTables = new ConcurrentHashMap<>();
+
+    /**
+     * @param gridSize number of {@code p} values the tables are computed for, at least 2
+     */
+    public WinProbabilityQuery(int gridSize) {
+        if (gridSize < 2) {
+            throw new IllegalArgumentException("Grid size must be at least 2");
+        }
+        this.gridSize = gridSize;
+        this.gameTable = new double[gridSize * ScoringEngine.STATE_COUNT];
+        for (int k = 0; k < gridSize; k++) {
+            double[] points = race(GAME_POINTS, POINT_SIZE, gridValue(k), true);
+            for (int id = 0; id < ScoringEngine.STATE_COUNT; id++) {
+                gameTable[k * ScoringEngine.STATE_COUNT + id] = ScoringEngine.isFinished(id)
+                        ? (ScoringEngine.winner(id) == ScoringEngine.PLAYER_1 ? 1 : 0)
+                        : points[ScoringEngine.player1Points(id) * POINT_SIZE + ScoringEngine.player2Points(id)];
+            }
+        }
+    }
+
+    /**
+     * @param state a {@link ScoringEngine} state of a game played with advantage
+     */
+    public double gameWinProbability(int state, double p) {
+        int k = gridIndex(p);
+        double t = p * (gridSize - 1) - k;
+        int id = ScoringEngine.stateId(state);
+        return lerp(gameTable[k * ScoringEngine.STATE_COUNT + id], gameTable[(k + 1) * ScoringEngine.STATE_COUNT + id], t);
+    }
+
+    /**
+     * @param state a {@link MatchEngine} state of a match played in the given format
+     */
+    public double matchWinProbability(MatchFormat format, long state, double p) {
+        int k = gridIndex(p);
+        if (MatchEngine.isFinished(state)) {
+            return MatchEngine.winner(state) == ScoringEngine.PLAYER_1 ? 1 : 0;
+        }
+        MatchTables tables = matchTables.computeIfAbsent(format, f -> new MatchTables(f, gridSize));
+        return lerp(tables.winProbability(k, state), tables.winProbability(k + 1, state), p * (gridSize - 1) - k);
+    }
+
+    /**
+     * @return the grid index right below {@code p}, so that {@code k + 1} is always a valid index
+     */
+    private int gridIndex(double p) {
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Point win probability must be between 0 and 1");
+        }
+        return Math.min((int) (p * (gridSize - 1)), gridSize - 2);
+    }
+
+    private double gridValue(int k) {
+        return (double) k / (gridSize - 1);
+    }
+
+    private static double lerp(double low, double high, double t) {
+        return low + (high - low) * t;
+    }
+
+    /**
+     * Probabilities of first reaching {@code target} wins from every score {@code (a, b)} below {@code size},
+     * with a two win lead when {@code winByTwo}, indexed by {@code a * size + b}.
+     */
+    private static double[] race(int target, int size, double p, boolean winByTwo) {
+        double q = 1 - p;
+        double even = p * p / (p * p + q * q);
+        double[] table = new double[size * size];
+        for (int a = size - 1; a >= 0; a--) {
+            for (int b = size - 1; b >= 0; b--) {
+                double value;
+                if (winByTwo && a >= target - 1 && b >= target - 1) {
+                    value = switch (a - b) {
+                        case 0 -> even;
+                        case 1 -> p + q * even;
+                        case -1 -> p * even;
+                        default -> a > b ? 1 : 0;
+                    };
+                } else if (a >= target || b >= target) {
+                    value = a > b ? 1 : 0;
+                } else {
+                    value = p * table[(a + 1) * size + b] + q * table[a * size + b + 1];
+                }
+                table[a * size + b] = value;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Reduces scores where both sides reached {@code target - 1} to the same lead from {@code target - 1}.
+     */
+    private static int fold(int score, int other, int target) {
+        int floor = target - 1;
+        return score >= floor && other >= floor ? score - Math.min(score, other) + floor : score;
+    }
+
+    private static final class MatchTables {
+
+        private final MatchFormat format;
+        private final int setsToWin;
+        private final int matchSize;
+        private final double[][] points;
+        private final double[][] tieBreak;
+        private final double[][] set;
+        private final double[][] finalSet;
+        private final double[][] match;
+
+        private MatchTables(MatchFormat format, int gridSize) {
+            this.format = format;
+            this.setsToWin = format.setsToWin();
+            this.matchSize = setsToWin + 1;
+            this.points = new double[gridSize][];
+            this.tieBreak = new double[gridSize][];
+            this.set = new double[gridSize][];
+            this.finalSet = new double[gridSize][];
+            this.match = new double[gridSize][];
+            for (int k = 0; k < gridSize; k++) {
+                double p = (double) k / (gridSize - 1);
+                points[k] = race(GAME_POINTS, POINT_SIZE, p, format.advantage());
+                tieBreak[k] = race(TIE_BREAK_POINTS, SET_SIZE, p, true);
+                set[k] = set(points[k][0], tieBreak[k][0]);
+                finalSet[k] = format.finalSetTieBreak() ? set[k] : race(GAMES, SET_SIZE, points[k][0], true);
+                match[k] = match(set[k][0], finalSet[k][0]);
+            }
+        }
+
+        double winProbability(int k, long state) {
+            int sets1 = MatchEngine.sets(state, ScoringEngine.PLAYER_1);
+            int sets2 = MatchEngine.sets(state, ScoringEngine.PLAYER_2);
+            int points1 = MatchEngine.points(state, ScoringEngine.PLAYER_1);
+            int points2 = MatchEngine.points(state, ScoringEngine.PLAYER_2);
+            double setWin;
+            if (MatchEngine.isTieBreak(state)) {
+                setWin = tieBreak[k][fold(points1, points2, TIE_BREAK_POINTS) * SET_SIZE
+                        + fold(points2, points1, TIE_BREAK_POINTS)];
+            } else {
+                // only a deciding set without tie-break can go past 7 games, and its ties are all alike
+                boolean advantageSet = sets1 == setsToWin - 1 && sets2 == setsToWin - 1 && !format.finalSetTieBreak();
+                double[] games = advantageSet ? finalSet[k] : set[k];
+                int games1 = MatchEngine.games(state, ScoringEngine.PLAYER_1);
+                int games2 = MatchEngine.games(state, ScoringEngine.PLAYER_2);
+                double gameWin = points[k][points1 * POINT_SIZE + points2];
+                setWin = gameWin * games(games, games1 + 1, games2, advantageSet)
+                        + (1 - gameWin) * games(games, games1, games2 + 1, advantageSet);
+            }
+            return setWin * match[k][(sets1 + 1) * matchSize + sets2] + (1 - setWin) * match[k][sets1 * matchSize + sets2 + 1];
+        }
+
+        private static double games(double[] table, int games1, int games2, boolean fold) {
+            if (fold) {
+                return table[fold(games1, games2, GAMES) * SET_SIZE + fold(games2, games1, GAMES)];
+            }
+            return table[games1 * SET_SIZE + games2];
+        }
+
+        /**
+         * A set won with a two game lead, or with the tie-break at 6-6.
+         */
+        private static double[] set(double game, double tieBreak) {
+            double[] table = new double[SET_SIZE * SET_SIZE];
+            for (int a = SET_SIZE - 1; a >= 0; a--) {
+                for (int b = SET_SIZE - 1; b >= 0; b--) {
+                    double value;
+                    if (a == GAMES && b == GAMES) {
+                        value = tieBreak;
+                    } else if (a > GAMES || b > GAMES || (a == GAMES || b == GAMES) && Math.abs(a - b) >= 2) {
+                        value = a > b ? 1 : 0;
+                    } else {
+                        value = game * table[(a + 1) * SET_SIZE + b] + (1 - game) * table[a * SET_SIZE + b + 1];
+                    }
+                    table[a * SET_SIZE + b] = value;
+                }
+            }
+            return table;
+        }
+
+        private double[] match(double set, double finalSet) {
+            double[] table = new double[matchSize * matchSize];
+            for (int a = setsToWin; a >= 0; a--) {
+                for (int b = setsToWin; b >= 0; b--) {
+                    double value;
+                    if (a == setsToWin || b == setsToWin) {
+                        value = a > b ? 1 : 0;
+                    } else {
+                        double p = a == setsToWin - 1 && b == setsToWin - 1 ? finalSet : set;
+                        value = p * table[(a + 1) * matchSize + b] + (1 - p) * table[a * matchSize + b + 1];
+                    }
+                    table[a * matchSize + b] = value;
+                }
+            }
+            return table;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.domain.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Should record hits and misses")
+    void testHitsAndMisses() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(8);
+
+        assertNull(cache.get("A"));
+        cache.put("A", 1);
+        assertEquals(1, cache.get("A"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.size());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries beyond the maximum size")
+    void testEviction() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(1);
+        cache.put(1, 1);
+        cache.put(2, 2);
+
+        assertNull(cache.get(1));
+        assertEquals(2, cache.get(2));
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should stay bounded under many insertions")
+    void testBounded() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+
+        assertTrue(cache.size() <= 112);
+        assertEquals(10_000 - cache.size(), cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries beyond the maximum weight")
+    void testWeightEviction() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(10, (key, value) -> value.length());
+        cache.put(1, "aaaa");
+        cache.put(2, "bbbb");
+        cache.get(1);
+        cache.put(3, "cccc");
+
+        assertEquals("aaaa", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("cccc", cache.get(3));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Should not store entries heavier than the maximum weight")
+    void testOverweight() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(4, (key, value) -> value.length());
+        cache.put(1, "aaaa");
+        cache.put(2, "bbbbb");
+
+        assertEquals("aaaa", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,154 @@
+package org.domain.model;
+
+import org.domain.exception.GameStateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchEngineTest {
+
+    private static final String GAME_1 = "0000";
+    private static final String GAME_2 = "1111";
+
+    @Nested
+    @DisplayName("Games")
+    class Games {
+
+        @Test
+        @DisplayName("Should fold deuce points and need two points with advantage")
+        void testAdvantage() {
+            MatchEngine engine = new MatchEngine(MatchFormat.BEST_OF_3);
+
+            long state = play(engine, MatchEngine.INITIAL, "000111" + "01".repeat(1_000));
+
+            assertEquals(3, MatchEngine.points(state, ScoringEngine.PLAYER_1));
+            assertEquals(3, MatchEngine.points(state, ScoringEngine.PLAYER_2));
+            state = play(engine, state, "11");
+            assertEquals(1, MatchEngine.games(state, ScoringEngine.PLAYER_2));
+            assertEquals(0, MatchEngine.points(state, ScoringEngine.PLAYER_1));
+        }
+
+        @Test
+        @DisplayName("Should win the deciding point without advantage")
+        void testNoAd() {
+            MatchEngine engine = new MatchEngine(new MatchFormat(3, false, true));
+
+            long state = play(engine, MatchEngine.INITIAL, "0001110");
+
+            assertEquals(1, MatchEngine.games(state, ScoringEngine.PLAYER_1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sets")
+    class Sets {
+
+        @Test
+        @DisplayName("Should play a tie-break at 6-6 and win it by two points")
+        void testTieBreak() {
+            MatchEngine engine = new MatchEngine(MatchFormat.BEST_OF_3);
+
+            long state = play(engine, MatchEngine.INITIAL, (GAME_1 + GAME_2).repeat(6));
+
+            assertTrue(MatchEngine.isTieBreak(state));
+            state = play(engine, state, "000000" + "111111" + "1");
+            assertEquals(6, MatchEngine.points(state, ScoringEngine.PLAYER_2));
+            assertEquals(5, MatchEngine.points(state, ScoringEngine.PLAYER_1));
+            assertEquals(7, MatchEngine.tieBreakPoints(state, ScoringEngine.PLAYER_2, 13));
+            assertEquals(6, MatchEngine.tieBreakPoints(state, ScoringEngine.PLAYER_1, 13));
+            state = play(engine, state, "1");
+            assertFalse(MatchEngine.isTieBreak(state));
+            assertEquals(1, MatchEngine.sets(state, ScoringEngine.PLAYER_2));
+            assertEquals(0, MatchEngine.games(state, ScoringEngine.PLAYER_1));
+        }
+
+        @Test
+        @DisplayName("Should fold the points of a long tie-break so they never overflow")
+        void testLongTieBreak() {
+            MatchEngine engine = new MatchEngine(MatchFormat.BEST_OF_3);
+            long state = play(engine, MatchEngine.INITIAL, (GAME_1 + GAME_2).repeat(6));
+
+            state = play(engine, state, "01".repeat(5_000));
+
+            assertTrue(MatchEngine.isTieBreak(state));
+            assertEquals(5, MatchEngine.points(state, ScoringEngine.PLAYER_1));
+            assertEquals(5, MatchEngine.points(state, ScoringEngine.PLAYER_2));
+            assertEquals(5_000, MatchEngine.tieBreakPoints(state, ScoringEngine.PLAYER_1, 10_000));
+            assertEquals(6, MatchEngine.games(state, ScoringEngine.PLAYER_1));
+            assertEquals(0, MatchEngine.sets(state, ScoringEngine.PLAYER_1));
+            state = play(engine, state, "0");
+            assertEquals(5_001, MatchEngine.tieBreakPoints(state, ScoringEngine.PLAYER_1, 10_001));
+            state = play(engine, state, "0");
+            assertFalse(MatchEngine.isTieBreak(state));
+            assertEquals(1, MatchEngine.sets(state, ScoringEngine.PLAYER_1));
+            assertEquals(0, MatchEngine.sets(state, ScoringEngine.PLAYER_2));
+        }
+
+        @Test
+        @DisplayName("Should count the games of a final set without tie-break past 255")
+        void testLongAdvantageFinalSet() {
+            MatchEngine engine = new MatchEngine(new MatchFormat(3, true, false));
+            long state = play(engine, MatchEngine.INITIAL, GAME_1.repeat(6) + GAME_2.repeat(6));
+
+            state = play(engine, state, (GAME_1 + GAME_2).repeat(1_000));
+
+            assertEquals(1_000, MatchEngine.games(state, ScoringEngine.PLAYER_1));
+            assertEquals(1_000, MatchEngine.games(state, ScoringEngine.PLAYER_2));
+            assertEquals(1, MatchEngine.sets(state, ScoringEngine.PLAYER_1));
+            assertEquals(1, MatchEngine.sets(state, ScoringEngine.PLAYER_2));
+            state = play(engine, state, GAME_2 + GAME_2);
+            assertTrue(MatchEngine.isFinished(state));
+            assertEquals(ScoringEngine.PLAYER_2, MatchEngine.winner(state));
+        }
+
+        @Test
+        @DisplayName("Should need two games in a final set without tie-break")
+        void testAdvantageFinalSet() {
+            MatchEngine engine = new MatchEngine(new MatchFormat(3, true, false));
+            long state = play(engine, MatchEngine.INITIAL, GAME_1.repeat(6) + GAME_2.repeat(6));
+
+            state = play(engine, state, (GAME_1 + GAME_2).repeat(30));
+
+            assertFalse(MatchEngine.isTieBreak(state));
+            assertEquals(30, MatchEngine.games(state, ScoringEngine.PLAYER_1));
+            state = play(engine, state, GAME_1 + GAME_1);
+            assertTrue(MatchEngine.isFinished(state));
+            assertEquals(ScoringEngine.PLAYER_1, MatchEngine.winner(state));
+        }
+    }
+
+    @Nested
+    @DisplayName("Matches")
+    class Matches {
+
+        @Test
+        @DisplayName("Should finish a best of five after three sets and ignore later points")
+        void testBestOfFive() {
+            MatchEngine engine = new MatchEngine(MatchFormat.BEST_OF_5);
+
+            long state = play(engine, MatchEngine.INITIAL, GAME_2.repeat(18));
+
+            assertTrue(MatchEngine.isFinished(state));
+            assertEquals(ScoringEngine.PLAYER_2, MatchEngine.winner(state));
+            assertEquals(3, MatchEngine.sets(state, ScoringEngine.PLAYER_2));
+            assertEquals(state, engine.next(state, ScoringEngine.PLAYER_1));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown formats")
+        void testFormat() {
+            assertThrows(GameStateException.class, () -> new MatchFormat(4, true, true));
+            assertEquals(1, new MatchFormat(1, true, true).setsToWin());
+            assertEquals(ScoringEngine.NONE, MatchEngine.winner(MatchEngine.INITIAL));
+        }
+    }
+
+    private static long play(MatchEngine engine, long state, String points) {
+        for (char c : points.toCharArray()) {
+            state = engine.next(state, c - '0');
+        }
+        return state;
+    }
+}
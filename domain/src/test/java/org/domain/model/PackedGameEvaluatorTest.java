@@ -0,0 +1,71 @@
+package org.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedGameEvaluatorTest {
+
+    @Test
+    @DisplayName("Should stop at the point that finishes the game")
+    void testStopsAtWinner() {
+        // Given 0000 then noise: player 1 wins on the fourth point
+        long[] points = {0b1111_0000L};
+
+        // When
+        PackedGameEvaluator.Evaluation evaluation = PackedGameEvaluator.evaluate(points, 8);
+
+        // Then
+        assertEquals(4, evaluation.end());
+        assertEquals(ScoringEngine.PLAYER_1, ScoringEngine.winner(evaluation.state()));
+    }
+
+    @Test
+    @DisplayName("Should count deuce cycles across words on long rallies")
+    void testLongRally() {
+        // Given 10 000 points alternating 0101...
+        long[] points = new long[(10_000 + 63) / 64];
+        Arrays.fill(points, 0xAAAA_AAAA_AAAA_AAAAL);
+
+        // When
+        PackedGameEvaluator.Evaluation evaluation = PackedGameEvaluator.evaluate(points, 10_000);
+
+        // Then
+        assertEquals(10_000, evaluation.end());
+        assertEquals(ScoringEngine.DEUCE, ScoringEngine.stateId(evaluation.state()));
+        assertEquals(4_997, ScoringEngine.deuceCycles(evaluation.state()));
+    }
+
+    @Test
+    @DisplayName("Should match point by point scoring from any state and offset")
+    void testMatchesScoringEngine() {
+        Random random = new Random(42);
+        for (int run = 0; run < 5_000; run++) {
+            // Given random points, mostly alternating to reach deuce, over an unaligned range
+            long[] points = new long[4];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = random.nextBoolean() ? random.nextLong() : 0xAAAA_AAAA_AAAA_AAAAL ^ (1L << random.nextInt(64));
+            }
+            int from = random.nextInt(64);
+            int to = from + random.nextInt(points.length * 64 - from + 1);
+            int start = random.nextInt(4) == 0 ? ScoringEngine.fromPoints(3 + random.nextInt(5), 3 + random.nextInt(5))
+                    : ScoringEngine.INITIAL;
+
+            // When
+            PackedGameEvaluator.Evaluation evaluation = PackedGameEvaluator.evaluate(start, points, from, to);
+
+            // Then
+            int state = start;
+            int i = from;
+            while (i < to && !ScoringEngine.isFinished(state)) {
+                state = ScoringEngine.next(state, (int) (points[i >>> 6] >>> i) & 1);
+                i++;
+            }
+            assertEquals(new PackedGameEvaluator.Evaluation(state, i), evaluation);
+        }
+    }
+}
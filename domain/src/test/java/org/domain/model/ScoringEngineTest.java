@@ -0,0 +1,86 @@
+package org.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringEngineTest {
+
+    @Nested
+    @DisplayName("Transitions")
+    class Transitions {
+
+        @ParameterizedTest
+        @DisplayName("Should reach the expected state from a point sequence")
+        @CsvSource({
+                "0000, 4, 0, FINISHED",
+                "0101, 2, 2, IN_PROGRESS",
+                "010101, 3, 3, DEUCE",
+                "0101011, 3, 4, ADVANTAGE",
+                "01010110, 4, 4, DEUCE",
+                "0101010101011, 6, 7, ADVANTAGE",
+                "01010100, 5, 3, FINISHED"
+        })
+        void testSequences(String points, int expectedP1, int expectedP2, GameStatus expectedStatus) {
+            int state = play(points);
+
+            assertEquals(expectedP1, ScoringEngine.player1Points(state));
+            assertEquals(expectedP2, ScoringEngine.player2Points(state));
+            assertEquals(expectedStatus, ScoringEngine.status(state));
+        }
+
+        @Test
+        @DisplayName("Should keep finished states absorbing")
+        void testFinishedIsAbsorbing() {
+            int state = play("1111");
+
+            assertTrue(ScoringEngine.isFinished(state));
+            assertEquals(ScoringEngine.PLAYER_2, ScoringEngine.winner(state));
+            assertEquals(state, ScoringEngine.next(state, ScoringEngine.PLAYER_1));
+        }
+
+        @Test
+        @DisplayName("Should count deuce cycles on long rallies")
+        void testLongRally() {
+            int state = play("01".repeat(10_000));
+
+            assertEquals(ScoringEngine.DEUCE, ScoringEngine.stateId(state));
+            assertEquals(9_997, ScoringEngine.deuceCycles(state));
+            assertEquals(10_000, ScoringEngine.player1Points(state));
+        }
+    }
+
+    @Nested
+    @DisplayName("Point Totals")
+    class PointTotals {
+
+        @Test
+        @DisplayName("Should round trip random games through their point totals")
+        void testRoundTrip() {
+            Random random = new Random(42);
+            for (int game = 0; game < 1_000; game++) {
+                int state = ScoringEngine.INITIAL;
+                while (!ScoringEngine.isFinished(state)) {
+                    state = ScoringEngine.next(state, random.nextInt(2));
+                    int p1 = ScoringEngine.player1Points(state);
+                    int p2 = ScoringEngine.player2Points(state);
+                    assertEquals(state, ScoringEngine.fromPoints(p1, p2));
+                }
+            }
+        }
+    }
+
+    private static int play(String points) {
+        int state = ScoringEngine.INITIAL;
+        for (char c : points.toCharArray()) {
+            state = ScoringEngine.next(state, c - '0');
+        }
+        return state;
+    }
+}
@@ -0,0 +1,52 @@
+package org.domain.model;
+
+import org.domain.exception.GameStateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TennisGameTest {
+
+    @Test
+    @DisplayName("Should score the same whether points are given by player or by index")
+    void testAddPointByIndex() {
+        // Given
+        TennisGame byPlayer = new TennisGame(new Player('A'), new Player('B'));
+        TennisGame byIndex = new TennisGame(new Player('A'), new Player('B'));
+
+        // When
+        byPlayer.addPoint(new Player('A'));
+        byPlayer.addPoint(new Player('B'));
+        byIndex.addPoint(ScoringEngine.PLAYER_1);
+        Score score = byIndex.addPoint(ScoringEngine.PLAYER_2);
+
+        // Then
+        Score expected = byPlayer.getCurrentScore();
+        assertEquals(expected.player1().getPoints(), score.player1().getPoints());
+        assertEquals(expected.player2().getPoints(), score.player2().getPoints());
+        assertEquals(expected.status(), score.status());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should reject a scorer index that is not a player")
+    @ValueSource(ints = {-1, 2, Integer.MAX_VALUE})
+    void testAddPointInvalidIndex(int scorer) {
+        // Given
+        TennisGame game = new TennisGame(new Player('A'), new Player('B'));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> game.addPoint(scorer));
+        assertEquals(0, game.getCurrentScore().player1().getPoints());
+    }
+
+    @Test
+    @DisplayName("Should reject a player who is not part of the game")
+    void testAddPointUnknownPlayer() {
+        TennisGame game = new TennisGame(new Player('A'), new Player('B'));
+
+        assertThrows(GameStateException.class, () -> game.addPoint(new Player('C')));
+    }
+}
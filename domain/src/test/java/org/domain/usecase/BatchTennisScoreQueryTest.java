@@ -0,0 +1,71 @@
+package org.domain.usecase;
+
+import org.domain.model.GameStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchTennisScoreQueryTest {
+    private BatchTennisScoreQuery query;
+
+    @BeforeEach
+    void setUp() {
+        query = new BatchTennisScoreQuery(new TennisScoreQuery(new GameSequenceProcessor()), 5_000);
+    }
+
+    @Test
+    @DisplayName("Should keep input order and isolate invalid sequences")
+    void testMixedBatch() {
+        // Given
+        List<String> sequences = List.of("ABAAA", "A1B", "XYXYXX", "ABC");
+
+        // When
+        List<BatchItemResult> results = query.execute(sequences);
+
+        // Then
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(GameStatus.FINISHED, results.get(0).result().scores().getLast().status());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("A1B", results.get(1).sequence());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals("XYXYXX", results.get(2).result().sequence());
+        assertFalse(results.get(3).isSuccess());
+    }
+
+    @Test
+    @DisplayName("Should score large batches in order")
+    void testLargeBatch() {
+        // Given
+        List<String> sequences = IntStream.range(0, 5_000)
+                .mapToObj(i -> i % 2 == 0 ? "ABAAA" : "BABBB")
+                .toList();
+
+        // When
+        List<BatchItemResult> results = query.execute(sequences);
+
+        // Then
+        for (int i = 0; i < results.size(); i++) {
+            char expectedWinner = i % 2 == 0 ? 'A' : 'B';
+            assertEquals(expectedWinner, results.get(i).result().scores().getLast().winner().getIdentifier());
+        }
+        assertTrue(query.execute(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject batches larger than the maximum size")
+    void testMaximumBatchSize() {
+        assertTrue(query.validate(Collections.nCopies(5_000, "ABAAA")).isEmpty());
+
+        ValidationError error = query.validate(Collections.nCopies(5_001, "ABAAA")).orElseThrow();
+
+        assertEquals(ValidationErrorCode.BATCH_TOO_LARGE, error.code());
+        assertEquals("Batch of 5001 sequences exceeds the maximum of 5000", error.message());
+    }
+}
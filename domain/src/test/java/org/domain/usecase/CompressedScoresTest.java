@@ -0,0 +1,70 @@
+package org.domain.usecase;
+
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedScoresTest {
+
+    private final GameSequenceProcessor processor = new GameSequenceProcessor();
+
+    @Test
+    @DisplayName("Should encode a long rally as a single run")
+    void testLongRally() {
+        // Given
+        String sequence = "ABABAB" + "AB".repeat(5_000) + "BB";
+
+        // When
+        CompressedScores scores = CompressedScores.of(processor.processGameSequence(sequence));
+
+        // Then
+        assertEquals(6, scores.headSize());
+        assertEquals(1, scores.runCount());
+        assertEquals(ScoringEngine.PLAYER_1, scores.runAdvantage(0));
+        assertEquals(5_000, scores.runCycles(0));
+        assertEquals(10_006, scores.tailStart());
+        assertEquals(10_008, scores.size());
+        assertEquals(processor.processGameSequence(sequence), scores);
+    }
+
+    @Test
+    @DisplayName("Should expand random games to their full progression")
+    void testRandomGames() {
+        Random random = new Random(11);
+        for (int game = 0; game < 500; game++) {
+            // Given a rally of random length with random advantages
+            StringBuilder sequence = new StringBuilder("ABABAB");
+            for (int i = random.nextInt(40); i > 0; i--) {
+                sequence.append(random.nextBoolean() ? "AB" : "BA");
+            }
+            sequence.append(random.nextInt(3) == 0 ? "A" : random.nextBoolean() ? "AA" : "");
+            List<Score> expected = processor.processGameSequence(sequence.toString());
+
+            // When
+            CompressedScores.Builder builder = new CompressedScores.Builder();
+            expected.forEach(builder::accept);
+            CompressedScores scores = builder.scores();
+
+            // Then
+            assertEquals(expected, scores);
+            assertEquals(expected.getLast(), scores.get(scores.size() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep games without deuce in the head and relabel players")
+    void testNoDeuce() {
+        CompressedScores scores = CompressedScores.of(processor.processGameSequence("ABAAA"));
+
+        assertEquals(5, scores.headSize());
+        assertEquals(0, scores.runCount());
+        assertEquals(processor.processGameSequence("XYXXX"), scores.withPlayers('X', 'Y'));
+        assertThrows(IndexOutOfBoundsException.class, () -> scores.get(5));
+    }
+}
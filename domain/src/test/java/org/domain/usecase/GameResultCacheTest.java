@@ -0,0 +1,55 @@
+package org.domain.usecase;
+
+import org.domain.cache.CacheStats;
+import org.domain.exception.InvalidSequenceException;
+import org.domain.model.GameStatus;
+import org.domain.model.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameResultCacheTest {
+    private GameResultCache cache;
+    private TennisScoreQuery query;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GameResultCache(100, 16);
+        query = new TennisScoreQuery(new GameSequenceProcessor(), cache);
+    }
+
+    @Test
+    @DisplayName("Should relabel a cached pattern with the actual players")
+    void testRelabel() {
+        // Given
+        query.execute("ABABAA");
+
+        // When
+        List<Score> scores = query.execute("xyxyxx").scores();
+
+        // Then
+        assertEquals(new GameSequenceProcessor().processGameSequence("XYXYXX"), scores);
+        assertEquals('X', scores.getFirst().player1().getIdentifier());
+        assertEquals(GameStatus.FINISHED, scores.getLast().status());
+        assertEquals('X', scores.getLast().winner().getIdentifier());
+        assertEquals(4, scores.getLast().player1().getPoints());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    @DisplayName("Should never cache invalid or oversized sequences")
+    void testNotCacheable() {
+        assertThrows(InvalidSequenceException.class, () -> query.execute("ABC"));
+        assertThrows(InvalidSequenceException.class, () -> query.execute("ABC"));
+        query.execute("AB".repeat(20));
+
+        assertEquals(0, cache.stats().size());
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -216,7 +217,25 @@ class GameSequenceProcessorTest {
             assertEquals(GameStatus.FINISHED, scores.get(7).status());
         }
 
+        @Test
+        @DisplayName("Should give a state sink the same progression without building scores")
+        void testStateSink() {
+            // Given
+            String sequence = "ABABABABAAAAA";
+            List<Score> expected = service.processGameSequence(sequence);
+            List<Integer> states = new ArrayList<>();
 
+            // When
+            int points = service.processGameSequence(sequence, SequenceParser.parse(sequence), (StateSink) (player1, player2, state) -> {
+                assertEquals('A', player1);
+                assertEquals('B', player2);
+                return states.add(state);
+            });
+
+            // Then
+            assertEquals(expected.size(), points);
+            assertEquals(expected.stream().map(Score::state).toList(), states);
+        }
     }
 
     @Nested
@@ -0,0 +1,105 @@
+package org.domain.usecase;
+
+import org.domain.exception.GameStateException;
+import org.domain.model.GameStatus;
+import org.domain.model.LiveGame;
+import org.domain.model.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveGameServiceTest {
+    private final AtomicLong clock = new AtomicLong();
+    private LiveGameStore store;
+    private LiveGameService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new LiveGameStore();
+        service = new LiveGameService(store, Duration.ofMinutes(1), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should score a game one point at a time")
+    void testAddPoints() {
+        // Given
+        LiveGame game = service.create('a', 'b');
+
+        // When
+        service.addPoint(game.getId(), 'A');
+        service.addPoint(game.getId(), 'b');
+        service.addPoint(game.getId(), 'A');
+        service.addPoint(game.getId(), 'A');
+        Score score = service.addPoint(game.getId(), 'A').orElseThrow();
+
+        // Then
+        assertEquals(GameStatus.FINISHED, score.status());
+        assertEquals('A', score.winner().getIdentifier());
+        assertThrows(GameStateException.class, () -> service.addPoint(game.getId(), 'B'));
+        assertThrows(GameStateException.class, () -> service.addPoint(game.getId(), 'C'));
+    }
+
+    @Test
+    @DisplayName("Should not lose concurrent points")
+    void testConcurrentPoints() throws Exception {
+        // Given
+        LiveGame game = service.create('A', 'B');
+        int threads = 8;
+        List<Future<Integer>> accepted = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                accepted.add(executor.submit(() -> {
+                    int points = 0;
+                    try {
+                        for (int i = 0; i < 100_000; i++) {
+                            service.addPoint(game.getId(), i % 2 == 0 ? 'A' : 'B');
+                            points++;
+                        }
+                    } catch (GameStateException finished) {
+                        // another thread ended the game
+                    }
+                    return points;
+                }));
+            }
+        }
+
+        // Then
+        int total = 0;
+        for (Future<Integer> future : accepted) {
+            total += future.get();
+        }
+        Score score = service.currentScore(game.getId()).orElseThrow();
+        assertEquals(total, score.player1().getPoints() + score.player2().getPoints());
+    }
+
+    @Test
+    @DisplayName("Should evict idle games only")
+    void testEviction() {
+        // Given
+        LiveGame idle = service.create('A', 'B');
+        clock.set(Duration.ofSeconds(50).toMillis());
+        LiveGame active = service.create('X', 'Y');
+        clock.set(Duration.ofSeconds(90).toMillis());
+
+        // When
+        service.evictIdleGames();
+
+        // Then
+        assertTrue(service.currentScore(idle.getId()).isEmpty());
+        assertTrue(service.addPoint(idle.getId(), 'A').isEmpty());
+        assertTrue(service.currentScore(active.getId()).isPresent());
+        assertEquals(1, store.size());
+    }
+}
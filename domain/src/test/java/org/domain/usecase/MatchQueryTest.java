@@ -0,0 +1,69 @@
+package org.domain.usecase;
+
+import org.domain.exception.InvalidSequenceException;
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchQueryTest {
+
+    private final MatchQuery query = new MatchQuery(ScoringMetrics.NOOP);
+
+    @Test
+    @DisplayName("Should record completed sets and their tie-breaks")
+    void testSets() {
+        // Given 6-4, then 7-6 with the tie-break won 7-5 by B
+        String sequence = "AAAA".repeat(5) + "BBBB".repeat(4) + "AAAA"
+                + "ABBBBAAAA".repeat(6)
+                + "ABABABABAB" + "BB" + "AAAA";
+
+        // When
+        MatchResult result = query.execute(sequence, MatchFormat.BEST_OF_3);
+
+        // Then
+        assertEquals(List.of(new MatchResult.SetScore(6, 4, -1), new MatchResult.SetScore(6, 7, 5)), result.sets());
+        assertEquals(0, result.winner());
+        assertEquals(sequence.length(), result.pointsPlayed());
+    }
+
+    @Test
+    @DisplayName("Should report the actual points of a long tie-break")
+    void testLongTieBreak() {
+        // Given 6-4, then 6-6 and a tie-break level at 5000 points all
+        String prefix = "AAAA".repeat(5) + "BBBB".repeat(4) + "AAAA" + "ABBBBAAAA".repeat(6) + "AB".repeat(5_000);
+
+        // When
+        MatchResult inProgress = query.execute(prefix + "A", MatchFormat.BEST_OF_3);
+        MatchResult completed = query.execute(prefix + "BB", MatchFormat.BEST_OF_3);
+
+        // Then
+        assertEquals(5_001, inProgress.tieBreakPoints(ScoringEngine.PLAYER_1));
+        assertEquals(5_000, inProgress.tieBreakPoints(ScoringEngine.PLAYER_2));
+        assertEquals(new MatchResult.SetScore(6, 7, 5_000), completed.sets().getLast());
+    }
+
+    @Test
+    @DisplayName("Should stop at the point finishing the match")
+    void testWinner() {
+        MatchResult result = query.execute("AAAA".repeat(12) + "BB", new MatchFormat(3, true, true));
+
+        assertEquals('A', result.winner());
+        assertEquals(48, result.pointsPlayed());
+        assertEquals(2, result.sets().size());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sequences")
+    void testInvalid() {
+        InvalidSequenceException exception = assertThrows(InvalidSequenceException.class,
+                () -> query.execute("AB1", MatchFormat.BEST_OF_3));
+
+        assertEquals(ValidationErrorCode.INVALID_CHARACTER.name(), exception.getCode());
+        assertEquals(2, exception.getPosition());
+    }
+}
@@ -0,0 +1,77 @@
+package org.domain.usecase;
+
+import org.domain.exception.InvalidSequenceException;
+import org.domain.model.ScoringEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedSequenceTest {
+
+    @Test
+    @DisplayName("Should pack one bit per point with the first scorer as player 1")
+    void testPack() {
+        PackedSequence sequence = PackedSequence.pack("bAaB" + "b".repeat(70));
+
+        assertEquals('B', sequence.player1());
+        assertEquals('A', sequence.player2());
+        assertEquals(74, sequence.length());
+        assertEquals(2, sequence.points().length);
+        assertEquals(0b0110L, sequence.points()[0]);
+        assertEquals(0L, sequence.points()[1]);
+        assertEquals(ScoringEngine.PLAYER_2, sequence.scorer(1));
+        assertEquals(ScoringEngine.PLAYER_1, sequence.scorer(73));
+    }
+
+    @Test
+    @DisplayName("Should match only the text sequences holding the same points")
+    void testMatches() {
+        PackedSequence sequence = PackedSequence.pack("ABAB" + "A".repeat(70));
+
+        assertTrue(sequence.matches("ABAB" + "A".repeat(70)));
+        assertTrue(sequence.matches("abab" + "a".repeat(70)));
+        assertFalse(sequence.matches("ABBA" + "A".repeat(70)));
+        assertFalse(sequence.matches("ABAB" + "A".repeat(69)));
+        assertFalse(sequence.matches("ACAC" + "A".repeat(70)));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sequences and headers")
+    void testInvalid() {
+        assertThrows(InvalidSequenceException.class, () -> PackedSequence.pack("AB1"));
+        assertThrows(IllegalArgumentException.class, () -> new PackedSequence('A', 'A', 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> new PackedSequence('A', 'b', 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> new PackedSequence('A', 'B', 65, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> new PackedSequence('A', 'B', 0, new long[0]));
+    }
+
+    @Test
+    @DisplayName("Should score packed sequences like their text form")
+    void testStateCodes() {
+        GameSequenceProcessor processor = new GameSequenceProcessor();
+        TennisScoreQuery query = new TennisScoreQuery(processor);
+        Random random = new Random(7);
+        for (int game = 0; game < 200; game++) {
+            StringBuilder text = new StringBuilder("X");
+            for (int i = random.nextInt(30); i >= 0; i--) {
+                text.append(random.nextBoolean() ? 'X' : 'Y');
+            }
+            if (text.indexOf("Y") < 0) {
+                text.append('Y');
+            }
+
+            byte[] states = query.stateCodes(PackedSequence.pack(text));
+
+            int state = ScoringEngine.INITIAL;
+            int expected = processor.processGameSequence(text.toString()).size();
+            assertEquals(expected, states.length);
+            for (int i = 0; i < states.length; i++) {
+                state = ScoringEngine.next(state, SequenceParser.scorer(text.charAt(i), 'X'));
+                assertEquals(ScoringEngine.stateId(state), states[i]);
+            }
+        }
+    }
+}
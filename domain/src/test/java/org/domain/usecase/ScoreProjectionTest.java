@@ -0,0 +1,56 @@
+package org.domain.usecase;
+
+import org.domain.model.GameStatus;
+import org.domain.model.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreProjectionTest {
+    private TennisScoreQuery query;
+
+    @BeforeEach
+    void setUp() {
+        query = new TennisScoreQuery(new GameSequenceProcessor());
+    }
+
+    @Test
+    @DisplayName("Should keep only the final score")
+    void testFinal() {
+        List<Score> scores = query.execute("ABABAB", ScoreProjection.FINAL, 1).scores();
+
+        assertEquals(1, scores.size());
+        assertEquals(GameStatus.DEUCE, scores.getFirst().status());
+    }
+
+    @Test
+    @DisplayName("Should keep only the winning score")
+    void testWinner() {
+        assertEquals('B', query.execute("ABBBB", ScoreProjection.WINNER, 1).scores().getFirst().winner().getIdentifier());
+        assertTrue(query.execute("ABAB", ScoreProjection.WINNER, 1).scores().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep every nth score")
+    void testEveryNth() {
+        List<Score> scores = query.execute("ABABABAA", ScoreProjection.EVERY_NTH, 3).scores();
+
+        assertEquals(2, scores.size());
+        assertEquals(2, scores.get(0).player1().getPoints());
+        assertEquals(GameStatus.DEUCE, scores.get(1).status());
+        assertThrows(IllegalArgumentException.class, () -> query.execute("AB", ScoreProjection.EVERY_NTH, 0));
+    }
+
+    @Test
+    @DisplayName("Should stop processing when the sink asks to")
+    void testEarlyStop() {
+        int[] accepted = new int[1];
+        new GameSequenceProcessor().processGameSequence("ABABABABAB", score -> ++accepted[0] < 3);
+
+        assertEquals(3, accepted[0]);
+    }
+}
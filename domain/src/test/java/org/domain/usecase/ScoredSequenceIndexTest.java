@@ -0,0 +1,103 @@
+package org.domain.usecase;
+
+import org.domain.model.Score;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoredSequenceIndexTest {
+
+    private static final String LONG_RALLY = "ABABAB" + "AB".repeat(5_000) + "BB" + "ABAB";
+
+    private final GameSequenceProcessor processor = new GameSequenceProcessor();
+
+    @Nested
+    @DisplayName("Index")
+    class Index {
+
+        @ParameterizedTest
+        @DisplayName("Should rebuild every score of the progression from the checkpoints")
+        @ValueSource(ints = {1, 7, 8, 64, 1_000, 20_000})
+        void testScoreAt(int interval) {
+            // Given
+            List<Score> expected = processor.processGameSequence(LONG_RALLY);
+
+            // When
+            ScoredSequenceIndex index = ScoredSequenceIndex.build(PackedSequence.pack(LONG_RALLY), interval);
+
+            // Then
+            assertEquals(expected.size(), index.pointsPlayed());
+            for (int i = 0; i < expected.size(); i += 97) {
+                assertEquals(expected.get(i), index.scoreAt(i));
+            }
+            assertEquals(expected.getLast(), index.scoreAt(expected.size() - 1));
+        }
+
+        @Test
+        @DisplayName("Should return the scores of a window")
+        void testScores() {
+            // Given
+            List<Score> expected = processor.processGameSequence(LONG_RALLY);
+            ScoredSequenceIndex index = ScoredSequenceIndex.build(PackedSequence.pack(LONG_RALLY), 1_024);
+
+            // When
+            List<Score> window = index.scores(9_950, expected.size());
+
+            // Then
+            assertEquals(expected.subList(9_950, expected.size()), window);
+            assertTrue(index.scores(3, 3).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject points outside of the game")
+        void testOutOfRange() {
+            ScoredSequenceIndex index = ScoredSequenceIndex.build(PackedSequence.pack("AAAAB"), 2);
+
+            assertEquals(4, index.pointsPlayed());
+            assertThrows(IndexOutOfBoundsException.class, () -> index.scoreAt(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> index.scores(2, 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query")
+    class Query {
+
+        private final ScoreRangeQuery query = new ScoreRangeQuery(10, 64, 100, ScoringMetrics.NOOP);
+
+        @Test
+        @DisplayName("Should cap the window to the points played and reuse the index")
+        void testRange() {
+            // When
+            GameResult first = assertInstanceOf(GameResult.class, query.evaluate(LONG_RALLY, 10_000, 20_000));
+            GameResult second = assertInstanceOf(GameResult.class, query.evaluate(LONG_RALLY, 0, 1));
+
+            // Then
+            assertEquals(processor.processGameSequence(LONG_RALLY).subList(10_000, 10_008), first.scores());
+            assertEquals(1, second.scores().size());
+            assertEquals(1, query.stats().hits());
+        }
+
+        @Test
+        @DisplayName("Should report invalid sequences and windows")
+        void testInvalid() {
+            ValidationError error = assertInstanceOf(ValidationError.class, query.evaluate("AB1", 0, 1));
+
+            assertEquals(ValidationErrorCode.INVALID_CHARACTER, error.code());
+            assertEquals(ValidationErrorCode.INVALID_RANGE,
+                    assertInstanceOf(ValidationError.class, query.evaluate("AAAAB", 5, 6)).code());
+            assertEquals(ValidationErrorCode.INVALID_RANGE,
+                    assertInstanceOf(ValidationError.class, query.evaluate("AAAAB", 3, 2)).code());
+            assertEquals(ValidationErrorCode.INVALID_RANGE,
+                    assertInstanceOf(ValidationError.class, query.evaluate("AAAAB", -1, 2)).code());
+            assertEquals(ValidationErrorCode.INVALID_RANGE,
+                    assertInstanceOf(ValidationError.class, query.evaluate(LONG_RALLY, 0, 101)).code());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.domain.usecase;
+
+import org.domain.exception.InvalidSequenceException;
+import org.domain.model.ScoringEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceParserTest {
+
+    @Test
+    @DisplayName("Should find both players in order of appearance")
+    void testPlayers() {
+        assertEquals(new SequencePlayers('B', 'A'), SequenceParser.parse("bAaB"));
+        assertEquals(new SequencePlayers('É', 'Z'), SequenceParser.parse("éZÉ"));
+    }
+
+    @Test
+    @DisplayName("Should map characters to scorers case insensitively")
+    void testScorer() {
+        assertEquals(ScoringEngine.PLAYER_1, SequenceParser.scorer('x', 'X'));
+        assertEquals(ScoringEngine.PLAYER_2, SequenceParser.scorer('y', 'X'));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should keep the detailed validation messages")
+    @CsvSource(delimiter = '|', value = {
+            "'   '|Sequence cannot be null or empty",
+            "AB1|Invalid character in sequence: 1. Only letters are allowed.",
+            "AB@|Invalid character in sequence: @. Only letters are allowed.",
+            "ABCD|Sequence must contain exactly two different letters. Found: 4",
+            "aaA|Sequence must contain exactly two different letters. Found: 1"
+    })
+    void testMessages(String sequence, String expectedMessage) {
+        InvalidSequenceException exception = assertThrows(InvalidSequenceException.class, () -> SequenceParser.parse(sequence));
+
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should report validation errors without throwing")
+    @CsvSource({
+            "'', EMPTY_SEQUENCE, -1",
+            "ABA-B, INVALID_CHARACTER, 3",
+            "AABBCAB, WRONG_PLAYER_COUNT, 4",
+            "AAAA, WRONG_PLAYER_COUNT, -1"
+    })
+    void testTryParse(String sequence, ValidationErrorCode expectedCode, int expectedPosition) {
+        ValidationError error = assertInstanceOf(ValidationError.class, SequenceParser.tryParse(sequence));
+
+        assertEquals(expectedCode, error.code());
+        assertEquals(expectedPosition, error.position());
+    }
+}
@@ -0,0 +1,121 @@
+package org.domain.usecase;
+
+import org.domain.model.MatchEngine;
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinProbabilityQueryTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private final WinProbabilityQuery query = new WinProbabilityQuery(11);
+
+    @Nested
+    @DisplayName("Game")
+    class Game {
+
+        @Test
+        @DisplayName("Should match the closed form at deuce and at any later tie")
+        void testDeuce() {
+            // Given
+            double p = 0.6;
+            double expected = p * p / (p * p + (1 - p) * (1 - p));
+
+            // When / Then
+            assertEquals(expected, query.gameWinProbability(ScoringEngine.fromPoints(3, 3), p), EPSILON);
+            assertEquals(expected, query.gameWinProbability(ScoringEngine.fromPoints(12, 12), p), EPSILON);
+            assertEquals(p + (1 - p) * expected, query.gameWinProbability(ScoringEngine.fromPoints(9, 8), p), EPSILON);
+        }
+
+        @Test
+        @DisplayName("Should be even from symmetric scores when points are even")
+        void testEven() {
+            for (int points = 0; points <= 5; points++) {
+                assertEquals(0.5, query.gameWinProbability(ScoringEngine.fromPoints(points, points), 0.5), EPSILON);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the outcome of finished games")
+        void testFinished() {
+            assertEquals(1, query.gameWinProbability(ScoringEngine.fromPoints(4, 2), 0.1));
+            assertEquals(0, query.gameWinProbability(ScoringEngine.fromPoints(5, 7), 0.9));
+        }
+
+        @Test
+        @DisplayName("Should interpolate between grid values")
+        void testInterpolation() {
+            // Given the exact probability of winning a game from 0-0
+            double p = 0.63;
+            double q = 1 - p;
+            double exact = Math.pow(p, 4) * (1 + 4 * q + 10 * q * q)
+                    + 20 * Math.pow(p * q, 3) * p * p / (p * p + q * q);
+
+            // When
+            double interpolated = new WinProbabilityQuery(1001).gameWinProbability(ScoringEngine.INITIAL, p);
+
+            // Then
+            assertEquals(exact, interpolated, 1e-5);
+        }
+
+        @Test
+        @DisplayName("Should reject probabilities outside [0, 1]")
+        void testInvalidProbability() {
+            assertThrows(IllegalArgumentException.class, () -> query.gameWinProbability(ScoringEngine.INITIAL, 1.5));
+            assertThrows(IllegalArgumentException.class, () -> query.gameWinProbability(ScoringEngine.INITIAL, Double.NaN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Match")
+    class Match {
+
+        @Test
+        @DisplayName("Should be even at the start when points are even")
+        void testEven() {
+            assertEquals(0.5, query.matchWinProbability(MatchFormat.BEST_OF_5, MatchEngine.INITIAL, 0.5), EPSILON);
+        }
+
+        @Test
+        @DisplayName("Should satisfy the one point recurrence at every state of a played match")
+        void testRecurrence() {
+            // Given a grid value of p, where tables are exact
+            double p = 0.6;
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (MatchFormat format : List.of(MatchFormat.BEST_OF_3, new MatchFormat(5, false, true),
+                    new MatchFormat(3, true, false))) {
+                MatchEngine engine = new MatchEngine(format);
+                long state = MatchEngine.INITIAL;
+                while (!MatchEngine.isFinished(state)) {
+                    long played = state;
+
+                    // When
+                    double current = query.matchWinProbability(format, state, p);
+                    double expected = p * query.matchWinProbability(format, engine.next(state, ScoringEngine.PLAYER_1), p)
+                            + (1 - p) * query.matchWinProbability(format, engine.next(state, ScoringEngine.PLAYER_2), p);
+
+                    // Then
+                    assertEquals(expected, current, EPSILON, () -> format + " at " + Long.toHexString(played));
+                    state = engine.next(state, random.nextDouble() < 0.52 ? ScoringEngine.PLAYER_1 : ScoringEngine.PLAYER_2);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the outcome of finished matches")
+        void testFinished() {
+            MatchResult result = new MatchQuery(ScoringMetrics.NOOP).execute("AAABA" + "AAAA".repeat(11), MatchFormat.BEST_OF_3);
+
+            assertEquals(1, query.matchWinProbability(MatchFormat.BEST_OF_3, result.state(), 0.2));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.infrastructure.reactive;
+
+import org.domain.model.LiveGame;
+import org.domain.usecase.LiveGameService;
+import org.infrastructure.live.LiveScoreBroadcaster;
+import org.infrastructure.live.LiveScoreSubscriber;
+import org.infrastructure.web.request.CreateGameRequest;
+import org.infrastructure.web.request.PointRequest;
+import org.infrastructure.web.response.LiveScoreResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional counterpart of the servlet {@code LiveGameEndpoint}.
+ */
+public class LiveGameHandler {
+
+    private final LiveGameService liveGameService;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+
+    public LiveGameHandler(LiveGameService liveGameService, LiveScoreBroadcaster liveScoreBroadcaster) {
+        this.liveGameService = liveGameService;
+        this.liveScoreBroadcaster = liveScoreBroadcaster;
+    }
+
+    public Mono<ServerResponse> createGame(ServerRequest request) {
+        return request.bodyToMono(CreateGameRequest.class)
+                .flatMap(body -> {
+                    LiveGame game = liveGameService.create(body.player1().charAt(0), body.player2().charAt(0));
+                    return ServerResponse.status(HttpStatus.CREATED)
+                            .bodyValue(LiveScoreResponse.of(game.getId(), game.currentScore()));
+                });
+    }
+
+    public Mono<ServerResponse> addPoint(ServerRequest request) {
+        return gameId(request).flatMap(id -> request.bodyToMono(PointRequest.class)
+                .flatMap(body -> liveGameService.addPoint(id, body.player().charAt(0))
+                        .map(score -> ServerResponse.ok().bodyValue(LiveScoreResponse.of(id, score)))
+                        .orElseGet(() -> ServerResponse.notFound().build())));
+    }
+
+    public Mono<ServerResponse> currentScore(ServerRequest request) {
+        return gameId(request).flatMap(id -> liveGameService.currentScore(id)
+                .map(score -> ServerResponse.ok().bodyValue(LiveScoreResponse.of(id, score)))
+                .orElseGet(() -> ServerResponse.notFound().build()));
+    }
+
+    /**
+     * Streams the score of the game as server-sent events. The events are already serialized and are
+     * wrapped without copy, and the latest one wins while the client applies backpressure.
+     * <p>
+     * The stream subscribes when the response body is written, and simply completes when the game has
+     * been removed since the status was chosen.
+     */
+    public Mono<ServerResponse> events(ServerRequest request) {
+        return gameId(request).flatMap(id -> {
+            if (liveGameService.currentScore(id).isEmpty()) {
+                return ServerResponse.notFound().build();
+            }
+            Flux<DataBuffer> events = Flux.<byte[]>create(sink -> liveScoreBroadcaster
+                            .subscribe(id, () -> liveGameService.currentScore(id), new SinkSubscriber(sink))
+                            .ifPresentOrElse(subscription -> sink.onDispose(subscription::cancel), sink::complete),
+                    FluxSink.OverflowStrategy.LATEST)
+                    .map(DefaultDataBufferFactory.sharedInstance::wrap);
+            return ServerResponse.ok().contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(BodyInserters.fromDataBuffers(events));
+        });
+    }
+
+    private record SinkSubscriber(FluxSink<byte[]> sink) implements LiveScoreSubscriber {
+
+        @Override
+        public void send(byte[] event) {
+            sink.next(event);
+        }
+
+        @Override
+        public void complete() {
+            sink.complete();
+        }
+    }
+
+    /**
+     * Parses the id inside the pipeline so a malformed one reaches the route error handlers.
+     */
+    private static Mono<Long> gameId(ServerRequest request) {
+        return Mono.fromCallable(() -> Long.parseLong(request.pathVariable("id")));
+    }
+}
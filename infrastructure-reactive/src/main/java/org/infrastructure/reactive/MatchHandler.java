@@ -0,0 +1,26 @@
+package org.infrastructure.reactive;
+
+import org.domain.usecase.MatchQuery;
+import org.infrastructure.web.request.MatchRequest;
+import org.infrastructure.web.response.MatchResultResponse;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional counterpart of the servlet {@code MatchEndpoint}.
+ */
+public class MatchHandler {
+
+    private final MatchQuery matchQuery;
+
+    public MatchHandler(MatchQuery matchQuery) {
+        this.matchQuery = matchQuery;
+    }
+
+    public Mono<ServerResponse> playMatch(ServerRequest request) {
+        return request.bodyToMono(MatchRequest.class)
+                .flatMap(body -> ServerResponse.ok()
+                        .bodyValue(MatchResultResponse.of(matchQuery.execute(body.sequence(), body.format()))));
+    }
+}
@@ -0,0 +1,18 @@
+package org.infrastructure.reactive;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+final class ReactiveProblems {
+
+    private ReactiveProblems() {
+    }
+
+    static Mono<ServerResponse> of(ProblemDetail problemDetail) {
+        return ServerResponse.status(problemDetail.getStatus())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(problemDetail);
+    }
+}
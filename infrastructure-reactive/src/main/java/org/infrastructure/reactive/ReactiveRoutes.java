@@ -0,0 +1,102 @@
+package org.infrastructure.reactive;
+
+import org.domain.exception.GameStateException;
+import org.domain.exception.InvalidSequenceException;
+import org.domain.usecase.BatchTennisScoreQuery;
+import org.domain.usecase.LiveGameService;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.ScoreRangeQuery;
+import org.domain.usecase.TennisScoreQuery;
+import org.domain.usecase.WinProbabilityQuery;
+import org.infrastructure.live.LiveScoreBroadcaster;
+import org.infrastructure.web.RateLimitedLogger;
+import org.infrastructure.web.ValidationProblems;
+import org.infrastructure.web.response.ResponseBodyCache;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Exposes the {@code /api/v1/tennis} routes through WebFlux functional endpoints. Only active when the
+ * application runs as a reactive web application, see the {@code reactive} profile.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRoutes {
+
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(LoggerFactory.getLogger(ReactiveRoutes.class), 10);
+
+    @Bean
+    TennisScoreHandler tennisScoreHandler(TennisScoreQuery tennisScoreQuery, BatchTennisScoreQuery batchTennisScoreQuery,
+                                          ScoreRangeQuery scoreRangeQuery, ResponseBodyCache responseBodyCache) {
+        return new TennisScoreHandler(tennisScoreQuery, batchTennisScoreQuery, scoreRangeQuery, responseBodyCache);
+    }
+
+    @Bean
+    LiveGameHandler liveGameHandler(LiveGameService liveGameService, LiveScoreBroadcaster liveScoreBroadcaster) {
+        return new LiveGameHandler(liveGameService, liveScoreBroadcaster);
+    }
+
+    @Bean
+    MatchHandler matchHandler(MatchQuery matchQuery) {
+        return new MatchHandler(matchQuery);
+    }
+
+    @Bean
+    WinProbabilityHandler winProbabilityHandler(WinProbabilityQuery winProbabilityQuery, MatchQuery matchQuery) {
+        return new WinProbabilityHandler(winProbabilityQuery, matchQuery);
+    }
+
+    @Bean
+    RouterFunction<ServerResponse> tennisRoutes(TennisScoreHandler tennisScoreHandler, LiveGameHandler liveGameHandler,
+                                                MatchHandler matchHandler, WinProbabilityHandler winProbabilityHandler) {
+        return RouterFunctions.route()
+                .path("/api/v1/tennis", routes -> routes
+                        .POST("/play/batch", tennisScoreHandler::playGames)
+                        .POST("/play/stream", tennisScoreHandler::playGameStream)
+                        .POST("/play/scores", tennisScoreHandler::playGameRangeBody)
+                        .POST("/play", RequestPredicates.contentType(MediaType.APPLICATION_OCTET_STREAM),
+                                tennisScoreHandler::playGamePacked)
+                        .POST("/play", tennisScoreHandler::playGame)
+                        .GET("/play/{sequence}/stream", tennisScoreHandler::playGamePathStream)
+                        .GET("/play/{sequence}/scores", tennisScoreHandler::playGameRange)
+                        .GET("/play/{sequence}", tennisScoreHandler::playGamePath)
+                        .POST("/match", matchHandler::playMatch)
+                        .GET("/probability/game", winProbabilityHandler::gameWinProbability)
+                        .POST("/probability/game/batch", winProbabilityHandler::gameWinProbabilities)
+                        .POST("/probability/match", winProbabilityHandler::matchWinProbability)
+                        .POST("/games", liveGameHandler::createGame)
+                        .POST("/games/{id}/points", liveGameHandler::addPoint)
+                        .GET("/games/{id}/events", liveGameHandler::events)
+                        .GET("/games/{id}", liveGameHandler::currentScore))
+                .onError(InvalidSequenceException.class, (ex, request) -> {
+                    rateLimitedLog.info("Invalid sequence : {}", ex.getMessage());
+                    return ReactiveProblems.of(ValidationProblems.of(ex));
+                })
+                .onError(GameStateException.class, (ex, request) -> {
+                    rateLimitedLog.info("Invalid game state : {}", ex.getMessage());
+                    return ReactiveProblems.of(problem("Invalid Game State", ex.getMessage()));
+                })
+                .onError(ServerWebInputException.class, (ex, request) -> {
+                    rateLimitedLog.info("Invalid request body : {}", ex.getMessage());
+                    return ReactiveProblems.of(ValidationProblems.invalidRequest(ex));
+                })
+                .onError(NumberFormatException.class, (ex, request) -> ServerResponse.badRequest().build())
+                .build();
+    }
+
+    private static ProblemDetail problem(String title, String detail) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
+        problemDetail.setTitle(title);
+        return problemDetail;
+    }
+}
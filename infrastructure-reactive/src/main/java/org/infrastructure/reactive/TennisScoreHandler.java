@@ -0,0 +1,186 @@
+package org.infrastructure.reactive;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.domain.usecase.BatchTennisScoreQuery;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.PackedSequence;
+import org.domain.usecase.ParseResult;
+import org.domain.usecase.ScoreProjection;
+import org.domain.usecase.ScoreRangeQuery;
+import org.domain.usecase.ScoringResult;
+import org.domain.usecase.SequencePlayers;
+import org.domain.usecase.StateCursor;
+import org.domain.usecase.TennisScoreQuery;
+import org.domain.usecase.ValidationError;
+import org.infrastructure.web.ValidationProblems;
+import org.infrastructure.web.request.GameSequenceBatchRequest;
+import org.infrastructure.web.request.GameSequenceRequest;
+import org.infrastructure.web.request.PackedSequenceRequest;
+import org.infrastructure.web.request.ScoreRangeRequest;
+import org.infrastructure.web.response.BatchResultResponse;
+import org.infrastructure.web.response.GameResultResponse;
+import org.infrastructure.web.response.ResponseBodyCache;
+import org.infrastructure.web.response.ScoreFormatter;
+import org.infrastructure.web.response.ScoreLines;
+import org.infrastructure.web.response.StateCodeResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Functional counterpart of the servlet {@code TennisScoreEndpoint}. Scoring a single sequence is CPU bound
+ * and takes microseconds, so it runs on the event loop instead of being offloaded to another scheduler. A
+ * batch is the exception: it waits for its items to be scored on the common pool, which would hold the event
+ * loop for the whole batch.
+ */
+public class TennisScoreHandler {
+
+    private final TennisScoreQuery tennisScoreQuery;
+    private final BatchTennisScoreQuery batchTennisScoreQuery;
+    private final ScoreRangeQuery scoreRangeQuery;
+    private final ResponseBodyCache responseBodyCache;
+
+    public TennisScoreHandler(TennisScoreQuery tennisScoreQuery, BatchTennisScoreQuery batchTennisScoreQuery,
+                              ScoreRangeQuery scoreRangeQuery, ResponseBodyCache responseBodyCache) {
+        this.tennisScoreQuery = tennisScoreQuery;
+        this.batchTennisScoreQuery = batchTennisScoreQuery;
+        this.scoreRangeQuery = scoreRangeQuery;
+        this.responseBodyCache = responseBodyCache;
+    }
+
+    public Mono<ServerResponse> playGame(ServerRequest request) {
+        return request.bodyToMono(GameSequenceRequest.class)
+                .flatMap(body -> play(body.sequence(), request));
+    }
+
+    public Mono<ServerResponse> playGamePacked(ServerRequest request) {
+        return request.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    PackedSequence sequence;
+                    try {
+                        sequence = PackedSequenceRequest.read(body);
+                    } catch (IllegalArgumentException e) {
+                        return ReactiveProblems.of(ValidationProblems.invalidRequest(e));
+                    }
+                    return ServerResponse.ok().contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .bodyValue(StateCodeResponse.write(sequence, tennisScoreQuery.stateCodes(sequence)));
+                });
+    }
+
+    /**
+     * Served from the {@link ResponseBodyCache} with a strong ETag, answering {@code 304 Not Modified} when it
+     * matches {@code If-None-Match}.
+     */
+    public Mono<ServerResponse> playGamePath(ServerRequest request) {
+        String sequence = request.pathVariable("sequence");
+        ResponseBodyCache.CachedBody cached;
+        try {
+            ScoreProjection mode = request.queryParam("mode").map(ScoreProjection::valueOf).orElse(ScoreProjection.ALL);
+            int interval = request.queryParam("n").map(Integer::parseInt).orElse(1);
+            boolean compressed = request.queryParam("compressed").map(Boolean::parseBoolean).orElse(false);
+            cached = responseBodyCache.get(sequence, mode, interval, compressed);
+            if (cached == null) {
+                ScoringResult result = tennisScoreQuery.evaluate(sequence, mode, interval);
+                if (!(result instanceof GameResult gameResult)) {
+                    return respond(result, compressed);
+                }
+                cached = responseBodyCache.put(sequence, mode, interval, compressed, gameResult);
+            }
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().build();
+        }
+        ResponseBodyCache.CachedBody body = cached;
+        return request.checkNotModified(body.etag())
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                        .eTag(body.etag())
+                        .cacheControl(responseBodyCache.cacheControl())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body.body())));
+    }
+
+    public Mono<ServerResponse> playGameRange(ServerRequest request) {
+        ScoringResult result;
+        try {
+            int from = request.queryParam("from").map(Integer::parseInt).orElse(0);
+            int to = Integer.parseInt(request.queryParam("to").orElseThrow(() -> new IllegalArgumentException("Missing to")));
+            result = scoreRangeQuery.evaluate(request.pathVariable("sequence"), from, to);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return respond(result, false);
+    }
+
+    public Mono<ServerResponse> playGameRangeBody(ServerRequest request) {
+        return request.bodyToMono(ScoreRangeRequest.class)
+                .flatMap(body -> respond(scoreRangeQuery.evaluate(body.sequence(), body.from(), body.to()), false));
+    }
+
+    public Mono<ServerResponse> playGames(ServerRequest request) {
+        return request.bodyToMono(GameSequenceBatchRequest.class)
+                .flatMap(body -> batchTennisScoreQuery.validate(body.sequences())
+                        .map(error -> ReactiveProblems.of(ValidationProblems.of(error)))
+                        .orElseGet(() -> Mono.fromCallable(() -> BatchResultResponse.of(batchTennisScoreQuery.execute(body.sequences())))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .flatMap(result -> ServerResponse.ok().bodyValue(result))));
+    }
+
+    public Mono<ServerResponse> playGameStream(ServerRequest request) {
+        return request.bodyToMono(GameSequenceRequest.class)
+                .flatMap(body -> stream(body.sequence()));
+    }
+
+    public Mono<ServerResponse> playGamePathStream(ServerRequest request) {
+        return stream(request.pathVariable("sequence"));
+    }
+
+    private Mono<ServerResponse> play(String sequence, ServerRequest request) {
+        ScoringResult result;
+        boolean compressed;
+        try {
+            ScoreProjection mode = request.queryParam("mode").map(ScoreProjection::valueOf).orElse(ScoreProjection.ALL);
+            int interval = request.queryParam("n").map(Integer::parseInt).orElse(1);
+            compressed = request.queryParam("compressed").map(Boolean::parseBoolean).orElse(false);
+            result = tennisScoreQuery.evaluate(sequence, mode, interval);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return respond(result, compressed);
+    }
+
+    private static Mono<ServerResponse> respond(ScoringResult result, boolean compressed) {
+        return switch (result) {
+            case GameResult gameResult -> ServerResponse.ok().bodyValue(GameResultResponse.of(gameResult, compressed));
+            case ValidationError error -> ReactiveProblems.of(ValidationProblems.of(error));
+        };
+    }
+
+    /**
+     * Sends the scores as one JSON string per line. The status has to be known before the first line, so
+     * the sequence is validated up front, then each point is only played when the subscriber requests its
+     * line, in constant memory whatever the length of the sequence.
+     */
+    private Mono<ServerResponse> stream(String sequence) {
+        ParseResult parsed = tennisScoreQuery.parse(sequence);
+        if (parsed instanceof ValidationError error) {
+            return ReactiveProblems.of(ValidationProblems.of(error));
+        }
+        SequencePlayers players = (SequencePlayers) parsed;
+        ScoreLines lines = ScoreFormatter.lines(players.player1(), players.player2());
+        // plain strings would be written raw, text nodes go through the Jackson NDJSON encoder
+        Flux<TextNode> scores = Flux.generate(() -> tennisScoreQuery.cursor(sequence, players),
+                (StateCursor cursor, SynchronousSink<TextNode> sink) -> {
+                    if (cursor.hasNext()) {
+                        sink.next(TextNode.valueOf(lines.text(cursor.next())));
+                    } else {
+                        sink.complete();
+                    }
+                    return cursor;
+                });
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(scores, TextNode.class);
+    }
+}
@@ -0,0 +1,80 @@
+package org.infrastructure.reactive;
+
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.MatchResult;
+import org.domain.usecase.WinProbabilityQuery;
+import org.infrastructure.web.request.GameProbabilityBatchRequest;
+import org.infrastructure.web.request.GameProbabilityRequest;
+import org.infrastructure.web.request.MatchRequest;
+import org.infrastructure.web.response.WinProbabilityBatchResponse;
+import org.infrastructure.web.response.WinProbabilityResponse;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Functional counterpart of the servlet {@code WinProbabilityEndpoint}.
+ */
+public class WinProbabilityHandler {
+
+    private final WinProbabilityQuery winProbabilityQuery;
+    private final MatchQuery matchQuery;
+
+    public WinProbabilityHandler(WinProbabilityQuery winProbabilityQuery, MatchQuery matchQuery) {
+        this.winProbabilityQuery = winProbabilityQuery;
+        this.matchQuery = matchQuery;
+    }
+
+    public Mono<ServerResponse> gameWinProbability(ServerRequest request) {
+        double probability;
+        try {
+            probability = gameWinProbability(new GameProbabilityRequest(
+                    request.queryParam("player1Points").map(Integer::parseInt).orElse(0),
+                    request.queryParam("player2Points").map(Integer::parseInt).orElse(0),
+                    Double.parseDouble(request.queryParam("p").orElseThrow(() -> new IllegalArgumentException("Missing p")))));
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return ServerResponse.ok().bodyValue(WinProbabilityResponse.of(probability));
+    }
+
+    public Mono<ServerResponse> gameWinProbabilities(ServerRequest request) {
+        return request.bodyToMono(GameProbabilityBatchRequest.class)
+                .flatMap(body -> {
+                    List<GameProbabilityRequest> queries = body.queries();
+                    double[] probabilities = new double[queries.size()];
+                    try {
+                        for (int i = 0; i < probabilities.length; i++) {
+                            probabilities[i] = gameWinProbability(queries.get(i));
+                        }
+                    } catch (IllegalArgumentException e) {
+                        return ServerResponse.badRequest().build();
+                    }
+                    return ServerResponse.ok().bodyValue(new WinProbabilityBatchResponse(probabilities));
+                });
+    }
+
+    public Mono<ServerResponse> matchWinProbability(ServerRequest request) {
+        return request.bodyToMono(MatchRequest.class)
+                .flatMap(body -> {
+                    MatchResult result = matchQuery.execute(body.sequence(), body.format());
+                    double probability;
+                    try {
+                        double p = Double.parseDouble(request.queryParam("p")
+                                .orElseThrow(() -> new IllegalArgumentException("Missing p")));
+                        probability = winProbabilityQuery.matchWinProbability(result.format(), result.state(), p);
+                    } catch (IllegalArgumentException e) {
+                        return ServerResponse.badRequest().build();
+                    }
+                    return ServerResponse.ok().bodyValue(WinProbabilityResponse.of(probability));
+                });
+    }
+
+    private double gameWinProbability(GameProbabilityRequest query) {
+        int state = ScoringEngine.fromPoints(query.player1Points(), query.player2Points());
+        return winProbabilityQuery.gameWinProbability(state, query.p());
+    }
+}
@@ -0,0 +1,7 @@
+package org.infrastructure.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class Config {
+}
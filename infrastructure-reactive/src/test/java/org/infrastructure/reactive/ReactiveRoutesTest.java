@@ -0,0 +1,350 @@
+package org.infrastructure.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.exception.GameStateException;
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+import org.domain.model.Player;
+import org.domain.model.Score;
+import org.domain.model.TennisGame;
+import org.domain.usecase.BatchTennisScoreQuery;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.GameSequenceProcessor;
+import org.domain.usecase.LiveGameService;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.PackedSequence;
+import org.domain.usecase.ScoreProjection;
+import org.domain.usecase.ScoreRangeQuery;
+import org.domain.usecase.ScoringMetrics;
+import org.domain.usecase.SequencePlayers;
+import org.domain.usecase.StateCursor;
+import org.domain.usecase.TennisScoreQuery;
+import org.domain.usecase.ValidationError;
+import org.domain.usecase.ValidationErrorCode;
+import org.domain.usecase.WinProbabilityQuery;
+import org.infrastructure.live.LiveScoreBroadcaster;
+import org.infrastructure.web.request.GameSequenceRequest;
+import org.infrastructure.web.request.PackedSequenceRequest;
+import org.infrastructure.web.request.PointRequest;
+import org.infrastructure.web.request.ScoreRangeRequest;
+import org.infrastructure.web.response.ResponseBodyCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest
+@ContextConfiguration(classes = Config.class)
+@Import({ReactiveRoutes.class, ReactiveRoutesTest.ResponseCacheConfig.class})
+class ReactiveRoutesTest {
+
+    public static final String SEQUENCE = "XYXYXX";
+    public static final String BASE_URI = "/api/v1/tennis";
+    @Autowired
+    private WebTestClient webTestClient;
+    @MockitoBean
+    private TennisScoreQuery tennisScoreQuery;
+    @MockitoBean
+    private BatchTennisScoreQuery batchTennisScoreQuery;
+    @MockitoBean
+    private ScoreRangeQuery scoreRangeQuery;
+    @MockitoBean
+    private MatchQuery matchQuery;
+    @MockitoBean
+    private WinProbabilityQuery winProbabilityQuery;
+    @MockitoBean
+    private LiveGameService liveGameService;
+    @MockitoBean
+    private LiveScoreBroadcaster liveScoreBroadcaster;
+
+    @Test
+    void testPlayGame() {
+        when(tennisScoreQuery.evaluate(eq(SEQUENCE), eq(ScoreProjection.FINAL), eq(1)))
+                .thenReturn(new GameResult(SEQUENCE, Collections.emptyList()));
+
+        webTestClient.post().uri(BASE_URI + "/play?mode=FINAL")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new GameSequenceRequest(SEQUENCE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.sequence").isEqualTo(SEQUENCE)
+                .jsonPath("$.scores").isArray();
+    }
+
+    @Test
+    void testPlayGamePacked() {
+        when(tennisScoreQuery.stateCodes(any())).thenReturn(new byte[]{4, 5, 9, 10, 14, 20});
+
+        webTestClient.post().uri(BASE_URI + "/play")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(PackedSequenceRequest.write(PackedSequence.pack(SEQUENCE)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .expectBody(byte[].class).isEqualTo(new byte[]{0, 'X', 0, 'Y', 0, 0, 0, 6, 4, 5, 9, 10, 14, 20});
+    }
+
+    @Test
+    void testPlayGamePackedTruncated() {
+        webTestClient.post().uri(BASE_URI + "/play")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(new byte[]{0, 'X', 0, 'Y'})
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Request")
+                .jsonPath("$.detail").isEqualTo("Packed sequence must start with an 8 byte header");
+    }
+
+    @Test
+    void testPlayGameRange() {
+        when(scoreRangeQuery.evaluate(SEQUENCE, 5, 6))
+                .thenReturn(new GameResult(SEQUENCE, new GameSequenceProcessor().processGameSequence(SEQUENCE).subList(5, 6)));
+
+        webTestClient.get().uri(BASE_URI + "/play/" + SEQUENCE + "/scores?from=5&to=6")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.scores[0]").isEqualTo("Player X wins the game");
+    }
+
+    @Test
+    void testPlayGameRangeBody() {
+        when(scoreRangeQuery.evaluate(SEQUENCE, 5, 6))
+                .thenReturn(new GameResult(SEQUENCE, new GameSequenceProcessor().processGameSequence(SEQUENCE).subList(5, 6)));
+
+        webTestClient.post().uri(BASE_URI + "/play/scores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ScoreRangeRequest(SEQUENCE, 5, 6))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.scores[0]").isEqualTo("Player X wins the game");
+    }
+
+    @Test
+    void testPlayGameRangeInvalid() {
+        when(scoreRangeQuery.evaluate(SEQUENCE, 9, 2))
+                .thenReturn(new ValidationError(ValidationErrorCode.INVALID_RANGE, -1, "Range 9 to 2 is outside the 6 points played"));
+
+        webTestClient.get().uri(BASE_URI + "/play/" + SEQUENCE + "/scores?from=9&to=2")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Range")
+                .jsonPath("$.code").isEqualTo("INVALID_RANGE");
+    }
+
+    @Test
+    void testPlayGamesTooLarge() {
+        when(batchTennisScoreQuery.validate(any())).thenReturn(Optional.of(new ValidationError(
+                ValidationErrorCode.BATCH_TOO_LARGE, -1, "Batch of 2 sequences exceeds the maximum of 1")));
+
+        webTestClient.post().uri(BASE_URI + "/play/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"sequences\":[\"ABAAA\",\"BABBB\"]}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Batch Too Large")
+                .jsonPath("$.code").isEqualTo("BATCH_TOO_LARGE");
+    }
+
+    @Test
+    void testPlayGamesMissingSequences() {
+        webTestClient.post().uri(BASE_URI + "/play/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Request")
+                .jsonPath("$.detail").isEqualTo("Sequences cannot be null or empty");
+    }
+
+    @Test
+    void testPlayMatch() {
+        String sequence = "XXXX".repeat(7) + "XY";
+        when(matchQuery.execute(eq(sequence), eq(MatchFormat.BEST_OF_3)))
+                .thenReturn(new MatchQuery(ScoringMetrics.NOOP).execute(sequence, MatchFormat.BEST_OF_3));
+
+        webTestClient.post().uri(BASE_URI + "/match")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"sequence\":\"" + sequence + "\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.sets[0]").isEqualTo("6-0")
+                .jsonPath("$.games").isEqualTo("1-0")
+                .jsonPath("$.points").isEqualTo("15-15");
+    }
+
+    @Test
+    void testGameWinProbability() {
+        when(winProbabilityQuery.gameWinProbability(ScoringEngine.fromPoints(2, 1), 0.55)).thenReturn(0.75);
+
+        webTestClient.get().uri(BASE_URI + "/probability/game?player1Points=2&player2Points=1&p=0.55")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.player1").isEqualTo(0.75)
+                .jsonPath("$.player2").isEqualTo(0.25);
+    }
+
+    @Test
+    void testGameWinProbabilityInvalid() {
+        webTestClient.get().uri(BASE_URI + "/probability/game?player1Points=-2&p=0.55")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testPlayGameValidationError() {
+        when(tennisScoreQuery.evaluate(any(), any(), anyInt())).thenReturn(
+                new ValidationError(ValidationErrorCode.INVALID_CHARACTER, 1, "Invalid character in sequence: 1. Only letters are allowed."));
+
+        webTestClient.get().uri(BASE_URI + "/play/X1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Sequence")
+                .jsonPath("$.code").isEqualTo("INVALID_CHARACTER")
+                .jsonPath("$.position").isEqualTo(1);
+    }
+
+    @Test
+    void testPlayGameInvalidInterval() {
+        webTestClient.get().uri(BASE_URI + "/play/" + SEQUENCE + "?mode=EVERY_NTH&n=abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testPlayGameStream() {
+        SequencePlayers players = new SequencePlayers('X', 'Y');
+        when(tennisScoreQuery.parse(SEQUENCE)).thenReturn(players);
+        when(tennisScoreQuery.cursor(SEQUENCE, players)).thenReturn(new StateCursor(SEQUENCE, players, ScoringMetrics.NOOP));
+
+        webTestClient.get().uri(BASE_URI + "/play/" + SEQUENCE + "/stream")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .isEqualTo("""
+                        "Player X : 15 / Player Y : 0"
+                        "Player X : 15 / Player Y : 15"
+                        "Player X : 30 / Player Y : 15"
+                        "Player X : 30 / Player Y : 30"
+                        "Player X : 40 / Player Y : 30"
+                        "Player X wins the game"
+                        """);
+    }
+
+    @Test
+    void testPlayGameStreamValidationError() {
+        when(tennisScoreQuery.parse("ABC")).thenReturn(
+                new ValidationError(ValidationErrorCode.WRONG_PLAYER_COUNT, 2, "Sequence must contain exactly two different letters. Found: 3"));
+
+        webTestClient.get().uri(BASE_URI + "/play/ABC/stream")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("WRONG_PLAYER_COUNT");
+    }
+
+    @Test
+    void testAddPointToUnknownGame() {
+        when(liveGameService.addPoint(eq(42L), eq('A'))).thenReturn(Optional.empty());
+
+        webTestClient.post().uri(BASE_URI + "/games/42/points")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new PointRequest("A"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testAddPointToFinishedGame() {
+        when(liveGameService.addPoint(eq(7L), eq('A'))).thenThrow(new GameStateException("Game is already finished"));
+
+        webTestClient.post().uri(BASE_URI + "/games/7/points")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new PointRequest("A"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Invalid Game State");
+    }
+
+    @Test
+    void testMalformedGameId() {
+        webTestClient.get().uri(BASE_URI + "/games/abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testCurrentScore() {
+        TennisGame game = new TennisGame(new Player('A'), new Player('B'));
+        Score score = game.addPoint(new Player('A'));
+        when(liveGameService.currentScore(3L)).thenReturn(Optional.of(score));
+
+        webTestClient.get().uri(BASE_URI + "/games/3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("3")
+                .jsonPath("$.status").isEqualTo("IN_PROGRESS");
+    }
+
+    @Test
+    void testPlayGamePathCached() {
+        String sequence = "RSRSRR";
+        when(tennisScoreQuery.evaluate(sequence, ScoreProjection.ALL, 1))
+                .thenReturn(new GameResult(sequence, new GameSequenceProcessor().processGameSequence(sequence)));
+
+        String etag = webTestClient.get().uri(BASE_URI + "/play/" + sequence)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .expectBody()
+                .jsonPath("$.scores[5]").isEqualTo("Player R wins the game")
+                .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.get().uri(BASE_URI + "/play/" + sequence)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+        verify(tennisScoreQuery, times(1)).evaluate(sequence, ScoreProjection.ALL, 1);
+    }
+
+    @TestConfiguration
+    static class ResponseCacheConfig {
+        @Bean
+        ResponseBodyCache responseBodyCache(ObjectMapper objectMapper) {
+            return new ResponseBodyCache(1 << 20, 1 << 16, Duration.ofHours(1), objectMapper);
+        }
+    }
+}
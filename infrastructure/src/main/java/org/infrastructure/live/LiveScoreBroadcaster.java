@@ -0,0 +1,129 @@
+package org.infrastructure.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.LiveScoreListener;
+import org.infrastructure.web.response.LiveScoreResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Pushes the live game scores to their subscribers as server-sent events.
+ * <p>
+ * Each point is serialized once into a complete event shared by every subscriber of the game, and nothing
+ * is serialized for games nobody watches. Deliveries run on virtual threads so a subscriber blocked on a
+ * slow connection holds no platform thread, and {@link LiveScoreSubscription} coalesces its updates in the
+ * meantime. Subscriptions end once the game is finished or removed.
+ */
+public class LiveScoreBroadcaster implements LiveScoreListener, AutoCloseable {
+
+    private static final byte[] EVENT_PREFIX = "event: score\ndata: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentHashMap<Long, Topic> topics = new ConcurrentHashMap<>();
+
+    public LiveScoreBroadcaster(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    private static final class Topic {
+        private final Set<LiveScoreSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<LiveUpdate> latest = new AtomicReference<>();
+    }
+
+    /**
+     * Subscribes to a game, the current score being sent first.
+     * <p>
+     * The subscription is registered before the current score is read, so a point scored or a removal
+     * happening meanwhile is either part of that score or delivered to the subscription.
+     *
+     * @param current reads the current score of the game, empty once the game no longer exists
+     * @return the subscription, or empty without any event sent when the game does not exist
+     */
+    public Optional<LiveScoreSubscription> subscribe(long gameId, Supplier<Optional<Score>> current,
+                                                     LiveScoreSubscriber subscriber) {
+        LiveScoreSubscription subscription = new LiveScoreSubscription(subscriber, executor,
+                cancelled -> unsubscribe(gameId, cancelled));
+        Topic topic = topics.compute(gameId, (id, existing) -> {
+            Topic joined = existing != null ? existing : new Topic();
+            joined.subscriptions.add(subscription);
+            return joined;
+        });
+
+        Optional<Score> score = current.get();
+        if (score.isEmpty()) {
+            unsubscribe(gameId, subscription);
+            return Optional.empty();
+        }
+        int state = score.get().state();
+        LiveUpdate latest = topic.latest.get();
+        if (latest == null || latest.version() < ScoringEngine.pointsPlayed(state)) {
+            latest = encode(gameId, score.get(), state);
+        }
+        subscription.offer(latest);
+        return Optional.of(subscription);
+    }
+
+    @Override
+    public void scoreChanged(long gameId, char player1, char player2, int state) {
+        Topic topic = topics.get(gameId);
+        if (topic == null) {
+            return;
+        }
+        LiveUpdate update = encode(gameId, Score.of(player1, player2, state), state);
+        topic.latest.accumulateAndGet(update, LiveUpdate::newest);
+        for (LiveScoreSubscription subscription : topic.subscriptions) {
+            subscription.offer(update);
+        }
+    }
+
+    @Override
+    public void gameRemoved(long gameId) {
+        Topic topic = topics.remove(gameId);
+        if (topic != null) {
+            topic.subscriptions.forEach(subscription -> subscription.offer(LiveUpdate.REMOVED));
+        }
+    }
+
+    int subscriberCount(long gameId) {
+        Topic topic = topics.get(gameId);
+        return topic == null ? 0 : topic.subscriptions.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void unsubscribe(long gameId, LiveScoreSubscription subscription) {
+        topics.computeIfPresent(gameId, (id, topic) -> {
+            topic.subscriptions.remove(subscription);
+            return topic.subscriptions.isEmpty() ? null : topic;
+        });
+    }
+
+    private LiveUpdate encode(long gameId, Score score, int state) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(LiveScoreResponse.of(gameId, score));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize score of game " + gameId, e);
+        }
+        byte[] event = new byte[EVENT_PREFIX.length + json.length + EVENT_SUFFIX.length];
+        System.arraycopy(EVENT_PREFIX, 0, event, 0, EVENT_PREFIX.length);
+        System.arraycopy(json, 0, event, EVENT_PREFIX.length, json.length);
+        System.arraycopy(EVENT_SUFFIX, 0, event, EVENT_PREFIX.length + json.length, EVENT_SUFFIX.length);
+        return new LiveUpdate(ScoringEngine.pointsPlayed(state), event, ScoringEngine.isFinished(state));
+    }
+}
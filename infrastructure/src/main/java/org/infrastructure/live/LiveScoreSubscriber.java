@@ -0,0 +1,17 @@
+package org.infrastructure.live;
+
+import java.io.IOException;
+
+/**
+ * Connection of one client to the live score updates of a game, implemented by each web adapter.
+ */
+public interface LiveScoreSubscriber {
+
+    /**
+     * Writes one complete server-sent event. The array is shared by every subscriber and must not be
+     * modified.
+     */
+    void send(byte[] event) throws IOException;
+
+    void complete();
+}
@@ -0,0 +1,77 @@
+package org.infrastructure.live;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the updates of a game to one subscriber, coalescing them while the subscriber is busy.
+ * <p>
+ * At most one update is pending: a newer one replaces it, so a slow consumer skips intermediate scores and
+ * always ends up on the latest state instead of buffering every point. A single drain task runs at a time
+ * and is only scheduled when an update arrives with nothing pending.
+ */
+public final class LiveScoreSubscription {
+
+    private final LiveScoreSubscriber subscriber;
+    private final Executor executor;
+    private final Consumer<LiveScoreSubscription> onCancel;
+    private final AtomicReference<LiveUpdate> pending = new AtomicReference<>();
+    // only accessed by the drain task, successive tasks are ordered by the pending handoff
+    private int sentVersion = -1;
+    private volatile boolean cancelled;
+
+    LiveScoreSubscription(LiveScoreSubscriber subscriber, Executor executor, Consumer<LiveScoreSubscription> onCancel) {
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.onCancel = onCancel;
+    }
+
+    /**
+     * Stops the delivery, called by the adapter once the client disconnected.
+     */
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            onCancel.accept(this);
+        }
+    }
+
+    void offer(LiveUpdate update) {
+        if (cancelled) {
+            return;
+        }
+        if (pending.getAndAccumulate(update, LiveUpdate::newest) == null) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        LiveUpdate update = pending.get();
+        while (true) {
+            if (!cancelled && update.version() > sentVersion) {
+                sentVersion = update.version();
+                deliver(update);
+            }
+            if (pending.compareAndSet(update, null)) {
+                return;
+            }
+            update = pending.get();
+        }
+    }
+
+    private void deliver(LiveUpdate update) {
+        try {
+            if (update.event() != null) {
+                subscriber.send(update.event());
+            }
+            if (update.last()) {
+                cancel();
+                subscriber.complete();
+            }
+        } catch (Exception e) {
+            // the client is gone, the adapter completes its side of the connection
+            cancel();
+        }
+    }
+}
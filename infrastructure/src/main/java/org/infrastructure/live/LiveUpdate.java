@@ -0,0 +1,17 @@
+package org.infrastructure.live;
+
+/**
+ * One serialized score update, shared by all the subscribers of a game.
+ *
+ * @param version number of points played, the higher the more recent
+ * @param event   the complete server-sent event, or {@code null} when the game was removed
+ * @param last    whether the subscriptions end after this update
+ */
+record LiveUpdate(int version, byte[] event, boolean last) {
+
+    static final LiveUpdate REMOVED = new LiveUpdate(Integer.MAX_VALUE, null, true);
+
+    static LiveUpdate newest(LiveUpdate current, LiveUpdate update) {
+        return current == null || update.version > current.version ? update : current;
+    }
+}
@@ -0,0 +1,39 @@
+package org.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.domain.cache.CacheStats;
+
+import java.util.function.Supplier;
+
+/**
+ * Publishes the statistics of a domain cache under {@code tennis.cache.*}, tagged with the cache name.
+ */
+public class CacheMetrics implements MeterBinder {
+
+    private final String name;
+    private final Supplier<CacheStats> stats;
+
+    public CacheMetrics(String name, Supplier<CacheStats> stats) {
+        this.name = name;
+        this.stats = stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tennis.cache.requests", stats, s -> s.get().hits())
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("tennis.cache.requests", stats, s -> s.get().misses())
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("tennis.cache.evictions", stats, s -> s.get().evictions())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("tennis.cache.size", stats, s -> s.get().size())
+                .tag("cache", name)
+                .register(registry);
+    }
+}
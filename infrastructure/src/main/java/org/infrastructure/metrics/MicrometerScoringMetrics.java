@@ -0,0 +1,46 @@
+package org.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.domain.usecase.ScoringMetrics;
+import org.domain.usecase.ValidationErrorCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class MicrometerScoringMetrics implements ScoringMetrics {
+
+    private final DistributionSummary sequenceLength;
+    private final Counter pointsProcessed;
+    private final Map<ValidationErrorCode, Counter> rejections = new EnumMap<>(ValidationErrorCode.class);
+
+    public MicrometerScoringMetrics(MeterRegistry registry) {
+        this.sequenceLength = DistributionSummary.builder("tennis.sequence.length")
+                .description("Length of the scored sequences")
+                .baseUnit("points")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.pointsProcessed = Counter.builder("tennis.points.processed")
+                .description("Points scored by the scoring engine")
+                .baseUnit("points")
+                .register(registry);
+        for (ValidationErrorCode code : ValidationErrorCode.values()) {
+            rejections.put(code, Counter.builder("tennis.sequence.rejected")
+                    .description("Sequences rejected by validation")
+                    .tag("reason", code.name())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void sequenceScored(int sequenceLength, int pointsProcessed) {
+        this.sequenceLength.record(sequenceLength);
+        this.pointsProcessed.increment(pointsProcessed);
+    }
+
+    @Override
+    public void sequenceRejected(ValidationErrorCode reason) {
+        rejections.get(reason).increment();
+    }
+}
@@ -0,0 +1,355 @@
+package org.infrastructure.persistence;
+
+import org.domain.model.LiveGame;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.LiveGameJournal;
+import org.domain.usecase.LiveGameStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of live game states, written to memory-mapped segment files.
+ * <p>
+ * Every change is a fixed 16 byte record ({@code id, state, player1, player2}). Appenders map the segment of
+ * the next slot before reserving it with a compare-and-set, so a failure to map leaves no hole, then write it
+ * without locking, the non-zero game id being published last so a committer thread can find the contiguous
+ * prefix of complete records and force it to disk in one call (group commit). With {@code syncWrites}
+ * appenders wait for that commit before returning, and fail once it is late or the last commit failed.
+ * <p>
+ * {@link #snapshot(LiveGameStore)} writes every live game to a compact snapshot file and deletes the segments
+ * it covers, so {@link #recover(LiveGameStore, long)} only replays the journal tail written after the last
+ * snapshot.
+ */
+public class MappedGameJournal implements LiveGameJournal, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedGameJournal.class);
+
+    static final int RECORD_SIZE = 16;
+    private static final int REMOVED = -1;
+    private static final long SNAPSHOT_MAGIC = 0x54454E4E49530001L;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final long DURABLE_TIMEOUT_NANOS = Duration.ofSeconds(5).toNanos();
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean syncWrites;
+    private final long commitIntervalNanos;
+    private final ConcurrentHashMap<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+    private final AtomicLong reserved = new AtomicLong();
+    private final Object commitLock = new Object();
+    private volatile long durable;
+    /** Failure of the last commit, {@code null} once a commit succeeds again. */
+    private volatile RuntimeException commitFailure;
+    private volatile boolean running = true;
+    private final Thread committer;
+
+    /**
+     * @param segmentSize size of each segment file in bytes, a multiple of {@value #RECORD_SIZE}
+     */
+    public MappedGameJournal(Path directory, int segmentSize, Duration commitInterval, boolean syncWrites) throws IOException {
+        if (segmentSize <= 0 || segmentSize % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Segment size must be a positive multiple of " + RECORD_SIZE);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+        this.commitIntervalNanos = commitInterval.toNanos();
+        this.committer = Thread.ofPlatform().name("game-journal-committer").daemon().unstarted(this::commitLoop);
+    }
+
+    @Override
+    public void recordState(long gameId, char player1, char player2, int state) {
+        append(gameId, state, player1, player2);
+    }
+
+    @Override
+    public void recordRemoved(long gameId) {
+        append(gameId, REMOVED, (char) 0, (char) 0);
+    }
+
+    /**
+     * Rebuilds the store from the latest snapshot and the journal written after it, then starts accepting
+     * appends. Must be called once, before any record.
+     */
+    public synchronized void recover(LiveGameStore store, long now) throws IOException {
+        Map<Long, Long> games = new HashMap<>();
+        Set<Long> removed = new HashSet<>();
+        long watermark = readLatestSnapshot(games);
+
+        long end = watermark;
+        for (long index : segmentIndexes()) {
+            long segmentStart = index * segmentSize;
+            if (segmentStart + segmentSize <= watermark) {
+                continue;
+            }
+            MappedByteBuffer segment = segment(index);
+            for (long offset = Math.max(watermark - segmentStart, 0); offset < segmentSize; offset += RECORD_SIZE) {
+                long id = (long) LONGS.getAcquire(segment, (int) offset);
+                if (id == 0) {
+                    // slots reserved by writers that did not complete before the restart stay empty
+                    continue;
+                }
+                apply(games, removed, id, segment.getInt((int) offset + 8),
+                        segment.getChar((int) offset + 12), segment.getChar((int) offset + 14));
+                end = segmentStart + offset + RECORD_SIZE;
+            }
+        }
+
+        games.forEach((id, packed) -> store.put(new LiveGame(id, (char) (packed >>> 16), (char) (packed & 0xFFFF),
+                (int) (packed >>> 32), now)));
+        reserved.set(end);
+        durable = end;
+        committer.start();
+        log.info("Recovered {} live games from {}", games.size(), directory);
+    }
+
+    /**
+     * Writes every live game to a new snapshot and drops the journal segments it makes obsolete.
+     */
+    public synchronized void snapshot(LiveGameStore store) throws IOException {
+        // Records before the watermark were appended after their game changed in the store, so the states
+        // read below are at least as recent; later records are replayed on recovery.
+        long watermark = reserved.get();
+        Path temporary = directory.resolve(SNAPSHOT_PREFIX + "tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+            out.writeLong(SNAPSHOT_MAGIC);
+            out.writeLong(watermark);
+            Iterator<LiveGame> games = store.games().iterator();
+            while (games.hasNext()) {
+                LiveGame game = games.next();
+                out.writeLong(game.getId());
+                out.writeInt(game.state());
+                out.writeChar(game.getPlayer1());
+                out.writeChar(game.getPlayer2());
+            }
+            out.writeLong(0);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_PREFIX + String.format("%016x", watermark)),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // the renamed entry must be durable before the files it replaces are deleted
+        try (FileChannel parent = FileChannel.open(directory, StandardOpenOption.READ)) {
+            parent.force(true);
+        }
+        // segments still holding records the committer has not forced yet are kept until the next snapshot
+        deleteObsoleteFiles(watermark, Math.min(watermark, durable));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        committer.interrupt();
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commit();
+        synchronized (commitLock) {
+            commitLock.notifyAll();
+        }
+    }
+
+    private void append(long id, int state, char player1, char player2) {
+        long position;
+        MappedByteBuffer segment;
+        do {
+            position = reserved.get();
+            segment = segment(position / segmentSize);
+        } while (!reserved.compareAndSet(position, position + RECORD_SIZE));
+        int offset = (int) (position % segmentSize);
+        segment.putInt(offset + 8, state);
+        segment.putChar(offset + 12, player1);
+        segment.putChar(offset + 14, player2);
+        LONGS.setRelease(segment, offset, id);
+        if (syncWrites) {
+            awaitDurable(position + RECORD_SIZE);
+        }
+    }
+
+    /**
+     * @throws UncheckedIOException when the record is not committed in time or the last commit failed, the
+     *                              record itself staying in the journal
+     */
+    private void awaitDurable(long position) {
+        long deadline = System.nanoTime() + DURABLE_TIMEOUT_NANOS;
+        synchronized (commitLock) {
+            while (durable < position && running) {
+                RuntimeException failure = commitFailure;
+                if (failure != null) {
+                    throw new UncheckedIOException(new IOException("Journal commit failed", failure));
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new UncheckedIOException(new IOException("Journal commit not done within "
+                            + Duration.ofNanos(DURABLE_TIMEOUT_NANOS)));
+                }
+                try {
+                    commitLock.wait(Math.max(1, remaining / 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void commitLoop() {
+        while (running) {
+            try {
+                commit();
+                commitFailure = null;
+            } catch (RuntimeException e) {
+                // the next iteration retries from the same durable position
+                if (commitFailure == null) {
+                    log.error("Journal commit failed, retrying", e);
+                }
+                commitFailure = e;
+                synchronized (commitLock) {
+                    commitLock.notifyAll();
+                }
+            }
+            LockSupport.parkNanos(commitIntervalNanos);
+        }
+    }
+
+    private void commit() {
+        long from = durable;
+        long limit = reserved.get();
+        long to = from;
+        while (to < limit) {
+            MappedByteBuffer segment = segments.get(to / segmentSize);
+            if (segment == null || (long) LONGS.getAcquire(segment, (int) (to % segmentSize)) == 0) {
+                break;
+            }
+            to += RECORD_SIZE;
+        }
+        if (to == from) {
+            return;
+        }
+        for (long start = from; start < to; ) {
+            long index = start / segmentSize;
+            long segmentEnd = Math.min((index + 1) * segmentSize, to);
+            segments.get(index).force((int) (start % segmentSize), (int) (segmentEnd - start));
+            start = segmentEnd;
+        }
+        durable = to;
+        if (syncWrites) {
+            synchronized (commitLock) {
+                commitLock.notifyAll();
+            }
+        }
+    }
+
+    private MappedByteBuffer segment(long index) {
+        return segments.computeIfAbsent(index, i -> {
+            try (FileChannel channel = FileChannel.open(segmentPath(i), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                return buffer;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void apply(Map<Long, Long> games, Set<Long> removed, long id, int state, char player1, char player2) {
+        if (state == REMOVED) {
+            games.remove(id);
+            removed.add(id);
+            return;
+        }
+        if (removed.contains(id)) {
+            return;
+        }
+        Long current = games.get(id);
+        if (current == null || ScoringEngine.pointsPlayed(state) > ScoringEngine.pointsPlayed((int) (current >>> 32))) {
+            games.put(id, pack(state, player1, player2));
+        }
+    }
+
+    private static long pack(int state, char player1, char player2) {
+        return (long) state << 32 | (long) player1 << 16 | player2;
+    }
+
+    private long readLatestSnapshot(Map<Long, Long> games) throws IOException {
+        Optional<Path> latest;
+        try (Stream<Path> snapshots = listFiles(SNAPSHOT_PREFIX)) {
+            latest = snapshots.filter(path -> !path.getFileName().toString().endsWith("tmp"))
+                    .max(Comparator.comparingLong(path -> suffix(path, SNAPSHOT_PREFIX)));
+        }
+        if (latest.isEmpty()) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest.get()), 1 << 16))) {
+            if (in.readLong() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a game snapshot: " + latest.get());
+            }
+            long watermark = in.readLong();
+            for (long id = in.readLong(); id != 0; id = in.readLong()) {
+                int state = in.readInt();
+                games.put(id, pack(state, in.readChar(), in.readChar()));
+            }
+            return watermark;
+        }
+    }
+
+    private void deleteObsoleteFiles(long watermark, long committed) throws IOException {
+        for (long index : segmentIndexes()) {
+            if ((index + 1) * segmentSize <= committed) {
+                segments.remove(index);
+                Files.deleteIfExists(segmentPath(index));
+            }
+        }
+        try (Stream<Path> snapshots = listFiles(SNAPSHOT_PREFIX)) {
+            for (Path snapshot : snapshots.toList()) {
+                String name = snapshot.getFileName().toString();
+                if (!name.endsWith("tmp") && suffix(snapshot, SNAPSHOT_PREFIX) < watermark) {
+                    Files.deleteIfExists(snapshot);
+                }
+            }
+        }
+    }
+
+    private List<Long> segmentIndexes() throws IOException {
+        try (Stream<Path> files = listFiles(SEGMENT_PREFIX)) {
+            return files.map(path -> suffix(path, SEGMENT_PREFIX)).sorted().toList();
+        }
+    }
+
+    private Stream<Path> listFiles(String prefix) throws IOException {
+        return Files.list(directory).filter(path -> path.getFileName().toString().startsWith(prefix));
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%016x", index));
+    }
+
+    private static long suffix(Path path, String prefix) {
+        return Long.parseUnsignedLong(path.getFileName().toString().substring(prefix.length()), 16);
+    }
+}
@@ -2,18 +2,37 @@ package org.infrastructure.web;
 
 import org.domain.exception.GameStateException;
 import org.domain.exception.InvalidSequenceException;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler({InvalidSequenceException.class, GameStateException.class})
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(LoggerFactory.getLogger(GlobalExceptionHandler.class), 10);
+
+    @ExceptionHandler(InvalidSequenceException.class)
     public ProblemDetail handleInvalidSequenceException(InvalidSequenceException ex) {
+        rateLimitedLog.info("Invalid sequence : {}", ex.getMessage());
+        return ValidationProblems.of(ex);
+    }
+
+    @ExceptionHandler(GameStateException.class)
+    public ProblemDetail handleGameStateException(GameStateException ex) {
+        rateLimitedLog.info("Invalid game state : {}", ex.getMessage());
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
-        problemDetail.setTitle("Invalid Sequence");
+        problemDetail.setTitle("Invalid Game State");
         return problemDetail;
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ProblemDetail handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        rateLimitedLog.info("Invalid request body : {}", ex.getMessage());
+        return ValidationProblems.invalidRequest(ex);
+    }
+}
@@ -0,0 +1,46 @@
+package org.infrastructure.web;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs at most {@code maxPerSecond} messages per second and reports how many were dropped in between, so
+ * abusive traffic cannot flood the log pipeline.
+ */
+public class RateLimitedLogger {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger;
+    private final int maxPerSecond;
+    private final AtomicLong window = new AtomicLong(System.nanoTime());
+    private final AtomicLong logged = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(Logger logger, int maxPerSecond) {
+        this.logger = logger;
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void info(String format, Object... arguments) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long start = window.get();
+        if (now - start >= WINDOW_NANOS && window.compareAndSet(start, now)) {
+            logged.set(0);
+            long dropped = suppressed.getAndSet(0);
+            if (dropped > 0) {
+                logger.info("{} similar messages suppressed", dropped);
+            }
+        }
+        if (logged.incrementAndGet() <= maxPerSecond) {
+            logger.info(format, arguments);
+        } else {
+            suppressed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.infrastructure.web;
+
+import org.domain.exception.InvalidSequenceException;
+import org.domain.usecase.ValidationError;
+import org.domain.usecase.ValidationErrorCode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+public final class ValidationProblems {
+
+    private ValidationProblems() {
+    }
+
+    public static ProblemDetail of(ValidationError error) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, error.message());
+        problemDetail.setTitle(switch (error.code()) {
+            case INVALID_RANGE -> "Invalid Range";
+            case BATCH_TOO_LARGE -> "Batch Too Large";
+            default -> "Invalid Sequence";
+        });
+        problemDetail.setProperty("code", error.code());
+        problemDetail.setProperty("position", error.position());
+        return problemDetail;
+    }
+
+    /**
+     * Problem for a sequence rejected through the exception based API, detailed with its code and
+     * position when it carries one.
+     */
+    public static ProblemDetail of(InvalidSequenceException exception) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+        problemDetail.setTitle("Invalid Sequence");
+        if (exception.getCode() != null) {
+            problemDetail.setProperty("code", exception.getCode());
+            problemDetail.setProperty("position", exception.getPosition());
+        }
+        return problemDetail;
+    }
+
+    public static ResponseEntity<ProblemDetail> badRequest(ValidationError error) {
+        return ResponseEntity.of(of(error)).build();
+    }
+
+    /**
+     * Problem for a request body that could not be read, detailed with the message of the
+     * {@link IllegalArgumentException} thrown by a request constructor when there is one.
+     */
+    public static ProblemDetail invalidRequest(Throwable exception) {
+        String detail = "Malformed request body";
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException) {
+                detail = cause.getMessage();
+                break;
+            }
+        }
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
+        problemDetail.setTitle("Invalid Request");
+        return problemDetail;
+    }
+}
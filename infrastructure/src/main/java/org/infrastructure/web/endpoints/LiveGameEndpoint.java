@@ -0,0 +1,70 @@
+package org.infrastructure.web.endpoints;
+
+import org.domain.model.LiveGame;
+import org.domain.usecase.LiveGameService;
+import org.infrastructure.live.LiveScoreBroadcaster;
+import org.infrastructure.web.request.CreateGameRequest;
+import org.infrastructure.web.request.PointRequest;
+import org.infrastructure.web.response.LiveScoreResponse;
+import org.infrastructure.web.response.ScoreEventEmitter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.time.Duration;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/tennis/games")
+public class LiveGameEndpoint {
+
+    private static final long SUBSCRIPTION_TIMEOUT = Duration.ofMinutes(30).toMillis();
+
+    private final LiveGameService liveGameService;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+
+    public LiveGameEndpoint(LiveGameService liveGameService, LiveScoreBroadcaster liveScoreBroadcaster) {
+        this.liveGameService = liveGameService;
+        this.liveScoreBroadcaster = liveScoreBroadcaster;
+    }
+
+    @PostMapping
+    public ResponseEntity<LiveScoreResponse> createGame(@RequestBody CreateGameRequest request) {
+        LiveGame game = liveGameService.create(request.player1().charAt(0), request.player2().charAt(0));
+        return ResponseEntity.status(HttpStatus.CREATED).body(LiveScoreResponse.of(game.getId(), game.currentScore()));
+    }
+
+    @PostMapping("/{id}/points")
+    public ResponseEntity<LiveScoreResponse> addPoint(@PathVariable("id") long id, @RequestBody PointRequest request) {
+        return liveGameService.addPoint(id, request.player().charAt(0))
+                .map(score -> ResponseEntity.ok(LiveScoreResponse.of(id, score)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<LiveScoreResponse> currentScore(@PathVariable("id") long id) {
+        return liveGameService.currentScore(id)
+                .map(score -> ResponseEntity.ok(LiveScoreResponse.of(id, score)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams the score of the game as server-sent events, starting with the current one, until the game is
+     * finished or removed.
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> subscribe(@PathVariable("id") long id) {
+        ScoreEventEmitter emitter = new ScoreEventEmitter(SUBSCRIPTION_TIMEOUT);
+        return liveScoreBroadcaster.subscribe(id, () -> liveGameService.currentScore(id), emitter)
+                .map(subscription -> {
+                    emitter.onCompletion(subscription::cancel);
+                    emitter.onTimeout(subscription::cancel);
+                    emitter.onError(error -> subscription.cancel());
+                    return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body((ResponseBodyEmitter) emitter);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,25 @@
+package org.infrastructure.web.endpoints;
+
+import org.domain.usecase.MatchQuery;
+import org.infrastructure.web.request.MatchRequest;
+import org.infrastructure.web.response.MatchResultResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/tennis/match")
+public class MatchEndpoint {
+
+    private final MatchQuery matchQuery;
+
+    public MatchEndpoint(MatchQuery matchQuery) {
+        this.matchQuery = matchQuery;
+    }
+
+    @PostMapping
+    public ResponseEntity<MatchResultResponse> playMatch(@RequestBody MatchRequest request) {
+        return ResponseEntity.ok(MatchResultResponse.of(matchQuery.execute(request.sequence(), request.format())));
+    }
+}
@@ -1,38 +1,183 @@
 package org.infrastructure.web.endpoints;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.domain.usecase.BatchTennisScoreQuery;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.PackedSequence;
+import org.domain.usecase.ScoreProjection;
+import org.domain.usecase.ScoreRangeQuery;
 import org.domain.usecase.TennisScoreQuery;
+import org.domain.usecase.ValidationError;
+import org.infrastructure.web.ValidationProblems;
+import org.infrastructure.web.request.GameSequenceBatchRequest;
 import org.infrastructure.web.request.GameSequenceRequest;
+import org.infrastructure.web.request.PackedSequenceRequest;
+import org.infrastructure.web.request.ScoreRangeRequest;
+import org.infrastructure.web.response.BatchResultResponse;
 import org.infrastructure.web.response.GameResultResponse;
+import org.infrastructure.web.response.NdjsonScoreWriter;
+import org.infrastructure.web.response.ResponseBodyCache;
+import org.infrastructure.web.response.StateCodeResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.Optional;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/tennis")
 public class TennisScoreEndpoint {
 
     private final TennisScoreQuery tennisScoreQuery;
+    private final BatchTennisScoreQuery batchTennisScoreQuery;
+    private final ScoreRangeQuery scoreRangeQuery;
+    private final ResponseBodyCache responseBodyCache;
+    private final ObjectMapper objectMapper;
 
-    public TennisScoreEndpoint(TennisScoreQuery tennisScoreQuery) {
+    public TennisScoreEndpoint(TennisScoreQuery tennisScoreQuery, BatchTennisScoreQuery batchTennisScoreQuery,
+                               ScoreRangeQuery scoreRangeQuery, ResponseBodyCache responseBodyCache,
+                               ObjectMapper objectMapper) {
         this.tennisScoreQuery = tennisScoreQuery;
+        this.batchTennisScoreQuery = batchTennisScoreQuery;
+        this.scoreRangeQuery = scoreRangeQuery;
+        this.responseBodyCache = responseBodyCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/play")
-    public ResponseEntity<GameResultResponse> playGame(@RequestBody GameSequenceRequest request) {
+    public ResponseEntity<?> playGame(@RequestBody GameSequenceRequest request,
+                                      @RequestParam(name = "mode", defaultValue = "ALL") ScoreProjection mode,
+                                      @RequestParam(name = "n", defaultValue = "1") int interval,
+                                      @RequestParam(name = "compressed", defaultValue = "false") boolean compressed) {
         try {
-            GameResultResponse result = GameResultResponse.of(tennisScoreQuery.execute(request.sequence()));
-            return ResponseEntity.ok(result);
+            return play(request.sequence(), mode, interval, compressed);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Binary counterpart of {@link #playGame}, selected by the content type: a bit-packed sequence in, one
+     * state code per point out, see {@link PackedSequenceRequest} and {@link StateCodeResponse}. A malformed
+     * body is answered with an Invalid Request problem.
+     */
+    @PostMapping(value = "/play", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> playGamePacked(@RequestBody byte[] body) {
+        try {
+            PackedSequence sequence = PackedSequenceRequest.read(body);
+            return ResponseEntity.ok(StateCodeResponse.write(sequence, tennisScoreQuery.stateCodes(sequence)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                    .body(ValidationProblems.invalidRequest(e));
+        }
+    }
+
+    /**
+     * Served from the {@link ResponseBodyCache} with a strong ETag, Spring answering {@code 304 Not Modified}
+     * when it matches {@code If-None-Match}.
+     */
     @GetMapping("/play/{sequence}")
-    public ResponseEntity<GameResultResponse> playGamePath(@PathVariable("sequence") String sequence) {
+    public ResponseEntity<?> playGamePath(@PathVariable("sequence") String sequence,
+                                          @RequestParam(name = "mode", defaultValue = "ALL") ScoreProjection mode,
+                                          @RequestParam(name = "n", defaultValue = "1") int interval,
+                                          @RequestParam(name = "compressed", defaultValue = "false") boolean compressed) {
         try {
-            GameResultResponse result = GameResultResponse.of(tennisScoreQuery.execute(sequence));
+            ResponseBodyCache.CachedBody cached = responseBodyCache.get(sequence, mode, interval, compressed);
+            if (cached == null) {
+                switch (tennisScoreQuery.evaluate(sequence, mode, interval)) {
+                    case GameResult result -> cached = responseBodyCache.put(sequence, mode, interval, compressed, result);
+                    case ValidationError error -> {
+                        return ValidationProblems.badRequest(error);
+                    }
+                }
+            }
+            return ResponseEntity.ok()
+                    .eTag(cached.etag())
+                    .cacheControl(responseBodyCache.cacheControl())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(cached.body());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Scores after points {@code from} (inclusive) to {@code to} (exclusive) of a long sequence, served from
+     * its checkpoint index.
+     */
+    @GetMapping("/play/{sequence}/scores")
+    public ResponseEntity<?> playGameRange(@PathVariable("sequence") String sequence,
+                                           @RequestParam(name = "from", defaultValue = "0") int from,
+                                           @RequestParam(name = "to") int to) {
+        return range(sequence, from, to);
+    }
+
+    /**
+     * Same as {@link #playGameRange(String, int, int)} with the sequence in the body, for sequences longer
+     * than a request line allows.
+     */
+    @PostMapping("/play/scores")
+    public ResponseEntity<?> playGameRange(@RequestBody ScoreRangeRequest request) {
+        return range(request.sequence(), request.from(), request.to());
+    }
+
+    @PostMapping("/play/batch")
+    public ResponseEntity<?> playGames(@RequestBody GameSequenceBatchRequest request) {
+        Optional<ValidationError> rejected = batchTennisScoreQuery.validate(request.sequences());
+        if (rejected.isPresent()) {
+            return ValidationProblems.badRequest(rejected.get());
+        }
+        try {
+            BatchResultResponse result = BatchResultResponse.of(batchTennisScoreQuery.execute(request.sequences()));
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @PostMapping("/play/stream")
+    public void playGameStream(@RequestBody GameSequenceRequest request, HttpServletResponse response) throws IOException {
+        stream(request.sequence(), response);
+    }
+
+    @GetMapping("/play/{sequence}/stream")
+    public void playGamePathStream(@PathVariable("sequence") String sequence, HttpServletResponse response) throws IOException {
+        stream(sequence, response);
+    }
+
+    private ResponseEntity<?> range(String sequence, int from, int to) {
+        return switch (scoreRangeQuery.evaluate(sequence, from, to)) {
+            case GameResult result -> ResponseEntity.ok(GameResultResponse.of(result));
+            case ValidationError error -> ValidationProblems.badRequest(error);
+        };
+    }
+
+    private ResponseEntity<?> play(String sequence, ScoreProjection mode, int interval, boolean compressed) {
+        return switch (tennisScoreQuery.evaluate(sequence, mode, interval)) {
+            case GameResult result -> ResponseEntity.ok(GameResultResponse.of(result, compressed));
+            case ValidationError error -> ValidationProblems.badRequest(error);
+        };
+    }
+
+    /**
+     * Writes the scores to the response, or the problem when the sequence is rejected. Validation happens
+     * before the first score is written, so the response is still uncommitted when a problem is written.
+     */
+    private void stream(String sequence, HttpServletResponse response) throws IOException {
+        NdjsonScoreWriter writer = new NdjsonScoreWriter(objectMapper.getFactory(), response);
+        Optional<ValidationError> error = tennisScoreQuery.stream(sequence, writer);
+        if (error.isPresent()) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ValidationProblems.of(error.get()));
+            return;
+        }
+        writer.finish();
+    }
 }
@@ -0,0 +1,76 @@
+package org.infrastructure.web.endpoints;
+
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.MatchResult;
+import org.domain.usecase.WinProbabilityQuery;
+import org.infrastructure.web.request.GameProbabilityBatchRequest;
+import org.infrastructure.web.request.GameProbabilityRequest;
+import org.infrastructure.web.request.MatchRequest;
+import org.infrastructure.web.response.WinProbabilityBatchResponse;
+import org.infrastructure.web.response.WinProbabilityResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/tennis/probability")
+public class WinProbabilityEndpoint {
+
+    private final WinProbabilityQuery winProbabilityQuery;
+    private final MatchQuery matchQuery;
+
+    public WinProbabilityEndpoint(WinProbabilityQuery winProbabilityQuery, MatchQuery matchQuery) {
+        this.winProbabilityQuery = winProbabilityQuery;
+        this.matchQuery = matchQuery;
+    }
+
+    @GetMapping("/game")
+    public ResponseEntity<WinProbabilityResponse> gameWinProbability(@RequestParam(name = "player1Points", defaultValue = "0") int player1Points,
+                                                                     @RequestParam(name = "player2Points", defaultValue = "0") int player2Points,
+                                                                     @RequestParam(name = "p") double p) {
+        try {
+            GameProbabilityRequest request = new GameProbabilityRequest(player1Points, player2Points, p);
+            return ResponseEntity.ok(WinProbabilityResponse.of(gameWinProbability(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/game/batch")
+    public ResponseEntity<WinProbabilityBatchResponse> gameWinProbabilities(@RequestBody GameProbabilityBatchRequest request) {
+        try {
+            List<GameProbabilityRequest> queries = request.queries();
+            double[] probabilities = new double[queries.size()];
+            for (int i = 0; i < probabilities.length; i++) {
+                probabilities[i] = gameWinProbability(queries.get(i));
+            }
+            return ResponseEntity.ok(new WinProbabilityBatchResponse(probabilities));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Probability of winning the match from the score reached by the sequence.
+     */
+    @PostMapping("/match")
+    public ResponseEntity<WinProbabilityResponse> matchWinProbability(@RequestBody MatchRequest request,
+                                                                      @RequestParam(name = "p") double p) {
+        try {
+            MatchResult result = matchQuery.execute(request.sequence(), request.format());
+            return ResponseEntity.ok(WinProbabilityResponse.of(
+                    winProbabilityQuery.matchWinProbability(result.format(), result.state(), p)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private double gameWinProbability(GameProbabilityRequest request) {
+        int state = ScoringEngine.fromPoints(request.player1Points(), request.player2Points());
+        return winProbabilityQuery.gameWinProbability(state, request.p());
+    }
+}
@@ -0,0 +1,9 @@
+package org.infrastructure.web.request;
+
+public record CreateGameRequest(String player1, String player2) {
+    public CreateGameRequest {
+        if (player1 == null || player1.length() != 1 || player2 == null || player2.length() != 1) {
+            throw new IllegalArgumentException("Players must be single letters");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.infrastructure.web.request;
+
+import java.util.List;
+
+public record GameProbabilityBatchRequest(List<GameProbabilityRequest> queries) {
+    public GameProbabilityBatchRequest {
+        if (queries == null || queries.isEmpty()) {
+            throw new IllegalArgumentException("Queries cannot be null or empty");
+        }
+    }
+}
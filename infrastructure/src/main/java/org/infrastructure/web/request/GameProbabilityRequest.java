@@ -0,0 +1,12 @@
+package org.infrastructure.web.request;
+
+/**
+ * @param p probability that player 1 wins each point
+ */
+public record GameProbabilityRequest(int player1Points, int player2Points, double p) {
+    public GameProbabilityRequest {
+        if (player1Points < 0 || player2Points < 0) {
+            throw new IllegalArgumentException("Points cannot be negative");
+        }
+    }
+}
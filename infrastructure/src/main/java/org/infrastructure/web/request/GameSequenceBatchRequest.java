@@ -0,0 +1,15 @@
+package org.infrastructure.web.request;
+
+import java.util.List;
+import java.util.Objects;
+
+public record GameSequenceBatchRequest(List<String> sequences) {
+    public GameSequenceBatchRequest {
+        if (sequences == null || sequences.isEmpty()) {
+            throw new IllegalArgumentException("Sequences cannot be null or empty");
+        }
+        if (sequences.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Sequences cannot contain null");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.infrastructure.web.request;
+
+import org.domain.model.MatchFormat;
+
+/**
+ * A match sequence with its format, best of 3 sets with advantage and tie-breaks when omitted.
+ */
+public record MatchRequest(String sequence, Integer bestOf, Boolean advantage, Boolean finalSetTieBreak) {
+    public MatchRequest {
+        if (sequence == null || sequence.trim().isEmpty()) {
+            throw new IllegalArgumentException("Sequence cannot be null or empty");
+        }
+    }
+
+    public MatchFormat format() {
+        MatchFormat defaults = MatchFormat.BEST_OF_3;
+        return new MatchFormat(bestOf == null ? defaults.bestOf() : bestOf,
+                advantage == null ? defaults.advantage() : advantage,
+                finalSetTieBreak == null ? defaults.finalSetTieBreak() : finalSetTieBreak);
+    }
+}
@@ -0,0 +1,50 @@
+package org.infrastructure.web.request;
+
+import org.domain.usecase.PackedSequence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the {@code application/octet-stream} form of a sequence, all values big-endian:
+ * <pre>
+ * player1 : u16   player2 : u16   length : i32   points : ceil(length / 8) bytes
+ * </pre>
+ * Point {@code i} is bit {@code i % 8} of byte {@code i / 8}, set when {@code player2} won it.
+ */
+public final class PackedSequenceRequest {
+
+    public static final int HEADER_SIZE = 8;
+
+    private PackedSequenceRequest() {
+    }
+
+    public static PackedSequence read(byte[] body) {
+        if (body == null || body.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("Packed sequence must start with an " + HEADER_SIZE + " byte header");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        char player1 = buffer.getChar();
+        char player2 = buffer.getChar();
+        int length = buffer.getInt();
+        if (length < 1 || body.length - HEADER_SIZE != (length + 7L) / 8) {
+            throw new IllegalArgumentException("Packed sequence length does not match its " + (body.length - HEADER_SIZE) + " bytes of points");
+        }
+        long[] points = new long[PackedSequence.words(length)];
+        for (int i = 0; buffer.hasRemaining(); i++) {
+            points[i >>> 3] |= (buffer.get() & 0xFFL) << ((i & 7) << 3);
+        }
+        return new PackedSequence(player1, player2, length, points);
+    }
+
+    public static byte[] write(PackedSequence sequence) {
+        int length = sequence.length();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (length + 7) / 8)
+                .putChar(sequence.player1())
+                .putChar(sequence.player2())
+                .putInt(length);
+        for (int i = 0; buffer.hasRemaining(); i++) {
+            buffer.put((byte) (sequence.points()[i >>> 3] >>> ((i & 7) << 3)));
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,9 @@
+package org.infrastructure.web.request;
+
+public record PointRequest(String player) {
+    public PointRequest {
+        if (player == null || player.length() != 1) {
+            throw new IllegalArgumentException("Player must be a single letter");
+        }
+    }
+}
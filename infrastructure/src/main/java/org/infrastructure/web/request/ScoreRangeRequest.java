@@ -0,0 +1,21 @@
+package org.infrastructure.web.request;
+
+/**
+ * A window of a long sequence sent in the body, for sequences too long for a request line.
+ *
+ * @param from index of the first point, {@code 0} when omitted
+ * @param to   index after the last point
+ */
+public record ScoreRangeRequest(String sequence, Integer from, Integer to) {
+    public ScoreRangeRequest {
+        if (sequence == null || sequence.trim().isEmpty()) {
+            throw new IllegalArgumentException("Sequence cannot be null or empty");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("The end of the range is required");
+        }
+        if (from == null) {
+            from = 0;
+        }
+    }
+}
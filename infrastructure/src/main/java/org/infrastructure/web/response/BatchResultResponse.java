@@ -0,0 +1,24 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.domain.usecase.BatchItemResult;
+
+import java.util.List;
+
+public record BatchResultResponse(List<Item> results) {
+
+    public static BatchResultResponse of(List<BatchItemResult> results) {
+        return new BatchResultResponse(results.stream().map(Item::of).toList());
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(String sequence, List<String> scores, String error) {
+
+        static Item of(BatchItemResult result) {
+            if (!result.isSuccess()) {
+                return new Item(result.sequence(), null, result.error());
+            }
+            return new Item(result.sequence(), GameResultResponse.of(result.result()).scores(), null);
+        }
+    }
+}
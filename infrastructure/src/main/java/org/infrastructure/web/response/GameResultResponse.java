@@ -1,32 +1,53 @@
 package org.infrastructure.web.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.domain.model.Score;
 import org.domain.usecase.GameResult;
 
+import java.util.AbstractList;
 import java.util.List;
 
-public record GameResultResponse(String sequence, List<String> scores) {
-
+/**
+ * JSON view of a {@link GameResult}, {@code {"sequence": ..., "scores": [...]}}, written by
+ * {@link GameResultSerializer} straight from the scores.
+ *
+ * @param compressed whether deuce rallies are written as runs instead of a score per point, see
+ *                   {@link GameResultSerializer}
+ */
+@JsonSerialize(using = GameResultSerializer.class)
+public record GameResultResponse(GameResult result, boolean compressed) {
 
     public static GameResultResponse of(GameResult gameResult) {
+        return new GameResultResponse(gameResult, false);
+    }
 
+    public static GameResultResponse of(GameResult gameResult, boolean compressed) {
+        return new GameResultResponse(gameResult, compressed);
+    }
 
-        return new GameResultResponse(gameResult.sequence(), formatScores(gameResult.scores()));
-
-
+    public String sequence() {
+        return result.sequence();
     }
 
-    private static String formatScore(Score score) {
-        return switch (score.status()) {
-            case DEUCE -> "Deuce";
-            case ADVANTAGE -> "Advantage Player " + score.getAdvantagePlayer();
-            case FINISHED -> "Player " + score.winner() + " wins the game";
-            default -> "Player " + score.player1() + " : " + score.getPlayer1ScoreDisplay() +
-                    " / Player " + score.player2() + " : " + score.getPlayer2ScoreDisplay();
+    /**
+     * The formatted scores, as a view over the result.
+     */
+    public List<String> scores() {
+        List<Score> scores = result.scores();
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return formatScore(scores.get(index));
+            }
+
+            @Override
+            public int size() {
+                return scores.size();
+            }
         };
     }
 
-    private static List<String> formatScores(List<Score> scores) {
-        return scores.stream().map(GameResultResponse::formatScore).toList();
+    public static String formatScore(Score score) {
+        return ScoreFormatter.format(score);
     }
 }
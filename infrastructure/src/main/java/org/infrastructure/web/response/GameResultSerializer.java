@@ -0,0 +1,97 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.CompressedScores;
+import org.domain.usecase.GameResult;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a game result one score at a time with pre-encoded field names and score lines, without building
+ * the list of display strings or introspecting the response.
+ * <p>
+ * A compressed response keeps the deuce rallies of {@link CompressedScores} encoded: {@code scores} stops at
+ * the first deuce, each entry of {@code cycles} stands for {@code count} times an advantage to {@code player}
+ * followed by deuce, and {@code tail} holds the scores after the last cycle.
+ * <pre>
+ * {"sequence":"...","scores":[..., "Deuce"],"cycles":[{"player":"A","count":4999}],"tail":["Advantage Player B","Player B wins the game"]}
+ * </pre>
+ */
+public class GameResultSerializer extends StdSerializer<GameResultResponse> {
+
+    private static final SerializedString SEQUENCE = new SerializedString("sequence");
+    private static final SerializedString SCORES = new SerializedString("scores");
+    private static final SerializedString CYCLES = new SerializedString("cycles");
+    private static final SerializedString PLAYER = new SerializedString("player");
+    private static final SerializedString COUNT = new SerializedString("count");
+    private static final SerializedString TAIL = new SerializedString("tail");
+
+    public GameResultSerializer() {
+        super(GameResultResponse.class);
+    }
+
+    @Override
+    public void serialize(GameResultResponse value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        GameResult result = value.result();
+        List<Score> scores = result.scores();
+        generator.writeStartObject(value);
+        generator.writeFieldName(SEQUENCE);
+        generator.writeString(result.sequence());
+        generator.writeFieldName(SCORES);
+        if (scores instanceof CompressedScores compressed && !compressed.isEmpty()) {
+            ScoreLines lines = ScoreFormatter.lines(compressed.player1(), compressed.player2());
+            if (value.compressed()) {
+                writeStates(generator, compressed, lines, 0, compressed.headSize());
+                writeCycles(generator, compressed);
+                generator.writeFieldName(TAIL);
+                writeStates(generator, compressed, lines, compressed.tailStart(), compressed.size());
+            } else {
+                writeStates(generator, compressed, lines, 0, compressed.size());
+            }
+        } else {
+            writeScores(generator, scores, 0, scores.size());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeScores(JsonGenerator generator, List<Score> scores, int from, int to) throws IOException {
+        generator.writeStartArray(scores, to - from);
+        for (int i = from; i < to; i++) {
+            generator.writeString(ScoreFormatter.formatJson(scores.get(i)));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Formats the scores from their states, without rebuilding a {@link Score} per point.
+     */
+    private static void writeStates(JsonGenerator generator, CompressedScores scores, ScoreLines lines, int from, int to)
+            throws IOException {
+        generator.writeStartArray(scores, to - from);
+        for (int i = from; i < to; i++) {
+            generator.writeString(lines.json(scores.state(i)));
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeCycles(JsonGenerator generator, CompressedScores scores) throws IOException {
+        generator.writeFieldName(CYCLES);
+        generator.writeStartArray(scores, scores.runCount());
+        for (int run = 0; run < scores.runCount(); run++) {
+            generator.writeStartObject();
+            generator.writeFieldName(PLAYER);
+            char player = scores.runAdvantage(run) == ScoringEngine.PLAYER_1 ? scores.player1() : scores.player2();
+            generator.writeString(String.valueOf(player));
+            generator.writeFieldName(COUNT);
+            generator.writeNumber(scores.runCycles(run));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,10 @@
+package org.infrastructure.web.response;
+
+import org.domain.model.Score;
+
+public record LiveScoreResponse(String id, String score, String status) {
+
+    public static LiveScoreResponse of(long id, Score score) {
+        return new LiveScoreResponse(Long.toString(id), GameResultResponse.formatScore(score), score.status().name());
+    }
+}
@@ -0,0 +1,51 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.domain.model.MatchEngine;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.MatchResult;
+
+import java.util.List;
+
+/**
+ * A scored match: the completed sets as {@code 6-4} or {@code 7-6(5)}, then while the match is in progress the
+ * games of the current set and the points of the current game, or of the current tie-break.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MatchResultResponse(String sequence, String winner, List<String> sets, String games, String points,
+                                  int pointsPlayed) {
+
+    private static final String[] POINTS = {"0", "15", "30", "40"};
+
+    public static MatchResultResponse of(MatchResult result) {
+        List<String> sets = result.sets().stream().map(MatchResultResponse::formatSet).toList();
+        long state = result.state();
+        if (MatchEngine.isFinished(state)) {
+            return new MatchResultResponse(result.sequence(), String.valueOf(result.winner()), sets, null, null,
+                    result.pointsPlayed());
+        }
+        String games = MatchEngine.games(state, ScoringEngine.PLAYER_1) + "-" + MatchEngine.games(state, ScoringEngine.PLAYER_2);
+        return new MatchResultResponse(result.sequence(), null, sets, games, formatPoints(result), result.pointsPlayed());
+    }
+
+    private static String formatSet(MatchResult.SetScore set) {
+        String games = set.player1Games() + "-" + set.player2Games();
+        return set.tieBreakLoserPoints() < 0 ? games : games + "(" + set.tieBreakLoserPoints() + ")";
+    }
+
+    private static String formatPoints(MatchResult result) {
+        long state = result.state();
+        int player1 = MatchEngine.points(state, ScoringEngine.PLAYER_1);
+        int player2 = MatchEngine.points(state, ScoringEngine.PLAYER_2);
+        if (MatchEngine.isTieBreak(state)) {
+            return result.tieBreakPoints(ScoringEngine.PLAYER_1) + "-" + result.tieBreakPoints(ScoringEngine.PLAYER_2);
+        }
+        if (player1 == 4 || player2 == 4) {
+            return "Advantage " + (player1 > player2 ? result.player1() : result.player2());
+        }
+        if (player1 == 3 && player2 == 3 && result.format().advantage()) {
+            return "Deuce";
+        }
+        return POINTS[player1] + "-" + POINTS[player2];
+    }
+}
@@ -0,0 +1,56 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletResponse;
+import org.domain.usecase.StateSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes each formatted score as its own NDJSON line straight to the servlet output stream, from the
+ * engine states and the precomputed {@link ScoreLines} of the players so nothing is allocated per point.
+ * <p>
+ * The response is only touched when the first score arrives, so a sequence rejected during validation
+ * still reaches the exception handlers with an uncommitted response.
+ */
+public class NdjsonScoreWriter implements StateSink {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final JsonFactory jsonFactory;
+    private final HttpServletResponse response;
+    private JsonGenerator generator;
+    private ScoreLines lines;
+
+    public NdjsonScoreWriter(JsonFactory jsonFactory, HttpServletResponse response) {
+        this.jsonFactory = jsonFactory;
+        this.response = response;
+    }
+
+    @Override
+    public boolean accept(char player1, char player2, int state) {
+        try {
+            if (generator == null) {
+                response.setContentType(APPLICATION_NDJSON);
+                generator = jsonFactory.createGenerator(response.getOutputStream());
+                generator.setRootValueSeparator(null);
+                lines = ScoreFormatter.lines(player1, player2);
+            }
+            generator.writeString(lines.json(state));
+            generator.writeRaw('\n');
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        if (generator == null) {
+            response.setContentType(APPLICATION_NDJSON);
+            return;
+        }
+        generator.close();
+    }
+}
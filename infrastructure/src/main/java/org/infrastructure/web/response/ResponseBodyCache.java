@@ -0,0 +1,105 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.cache.BoundedCache;
+import org.domain.cache.CacheStats;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.ScoreProjection;
+import org.springframework.http.CacheControl;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Serialized {@link GameResultResponse} bodies of {@code GET /play/{sequence}}, with their strong ETag.
+ * <p>
+ * The route is a pure function of its path and query, so a hit is answered with the stored bytes without
+ * scoring nor serializing again. Each entry weighs its body, the characters of its sequence key and a fixed
+ * overhead, and entries are evicted least recently used once their total reaches {@code maximumBytes}, so the
+ * memory held stays bounded whatever the length of the sequences. Bodies larger than {@code maximumBodySize}
+ * are never stored. The ETag is a digest of the body, so it only changes when the bytes do.
+ */
+public class ResponseBodyCache {
+
+    private static final int ETAG_BYTES = 16;
+    /**
+     * Approximate footprint of an entry besides its body and sequence: map node, key, value, ETag and headers.
+     */
+    private static final int ENTRY_OVERHEAD = 192;
+
+    private final BoundedCache<Key, CachedBody> cache;
+    private final int maximumBodySize;
+    private final CacheControl cacheControl;
+    private final ObjectMapper objectMapper;
+
+    public ResponseBodyCache(long maximumBytes, int maximumBodySize, Duration maxAge, ObjectMapper objectMapper) {
+        if (maximumBodySize < 0) {
+            throw new IllegalArgumentException("Maximum body size cannot be negative");
+        }
+        this.cache = new BoundedCache<>(maximumBytes, ResponseBodyCache::weigh);
+        this.maximumBodySize = maximumBodySize;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the cached body, or {@code null} when it has not been stored yet or was evicted
+     */
+    public CachedBody get(String sequence, ScoreProjection mode, int interval, boolean compressed) {
+        return cache.get(new Key(sequence, mode, interval, compressed));
+    }
+
+    /**
+     * Serializes the result and stores it when it is small enough.
+     */
+    public CachedBody put(String sequence, ScoreProjection mode, int interval, boolean compressed, GameResult result) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(GameResultResponse.of(result, compressed));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize the scores of " + sequence, e);
+        }
+        CachedBody cached = new CachedBody(body, etag(body));
+        if (body.length <= maximumBodySize) {
+            cache.put(new Key(sequence, mode, interval, compressed), cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Cache-Control sent with every body, allowing shared caches to keep it for the configured max age.
+     */
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static long weigh(Key key, CachedBody cached) {
+        return ENTRY_OVERHEAD + 2L * key.sequence().length() + cached.body().length;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_BYTES)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param etag quoted strong entity tag
+     */
+    public record CachedBody(byte[] body, String etag) {
+    }
+
+    private record Key(String sequence, ScoreProjection mode, int interval, boolean compressed) {
+    }
+}
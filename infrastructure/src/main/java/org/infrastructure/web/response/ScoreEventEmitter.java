@@ -0,0 +1,23 @@
+package org.infrastructure.web.response;
+
+import org.infrastructure.live.LiveScoreSubscriber;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+
+/**
+ * Writes the pre-serialized server-sent events of a live game as raw bytes, without per subscriber
+ * conversion.
+ */
+public class ScoreEventEmitter extends ResponseBodyEmitter implements LiveScoreSubscriber {
+
+    public ScoreEventEmitter(long timeout) {
+        super(timeout);
+    }
+
+    @Override
+    public void send(byte[] event) throws IOException {
+        send(event, MediaType.TEXT_EVENT_STREAM);
+    }
+}
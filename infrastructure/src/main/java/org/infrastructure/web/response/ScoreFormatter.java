@@ -0,0 +1,56 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.core.SerializableString;
+import org.domain.cache.BoundedCache;
+import org.domain.model.Score;
+
+/**
+ * Formats scores from precomputed {@link ScoreLines}, so rendering a game allocates nothing per point.
+ * <p>
+ * Tables of upper-case ASCII player pairs live in a fixed array filled on first use; the rare pairs of other
+ * letters go through a small bounded cache.
+ */
+public final class ScoreFormatter {
+
+    private static final int LETTERS = 26;
+    private static final ScoreLines[] ASCII_LINES = new ScoreLines[LETTERS * LETTERS];
+    private static final BoundedCache<Integer, ScoreLines> OTHER_LINES = new BoundedCache<>(1024);
+
+    private ScoreFormatter() {
+    }
+
+    public static String format(Score score) {
+        return lines(score).text(score.state());
+    }
+
+    public static SerializableString formatJson(Score score) {
+        return lines(score).json(score.state());
+    }
+
+    public static ScoreLines lines(char player1, char player2) {
+        int first = player1 - 'A';
+        int second = player2 - 'A';
+        if (first >= 0 && first < LETTERS && second >= 0 && second < LETTERS) {
+            int index = first * LETTERS + second;
+            ScoreLines lines = ASCII_LINES[index];
+            if (lines == null) {
+                // racing threads build identical tables, ScoreLines only has final fields so publishing it
+                // through the plain array is safe
+                lines = new ScoreLines(player1, player2);
+                ASCII_LINES[index] = lines;
+            }
+            return lines;
+        }
+        Integer key = player1 << 16 | player2;
+        ScoreLines lines = OTHER_LINES.get(key);
+        if (lines == null) {
+            lines = new ScoreLines(player1, player2);
+            OTHER_LINES.put(key, lines);
+        }
+        return lines;
+    }
+
+    private static ScoreLines lines(Score score) {
+        return lines(score.player1().getIdentifier(), score.player2().getIdentifier());
+    }
+}
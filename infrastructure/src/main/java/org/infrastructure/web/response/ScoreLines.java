@@ -0,0 +1,47 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.domain.model.ScoringEngine;
+
+/**
+ * Every display line of a game between two players, indexed by {@link ScoringEngine#stateId(int)}. The
+ * display never depends on the deuce cycles, so {@value ScoringEngine#STATE_COUNT} lines cover any game.
+ */
+public final class ScoreLines {
+
+    private static final String[] POINTS = {"0", "15", "30", "40"};
+
+    private final String[] text = new String[ScoringEngine.STATE_COUNT];
+    private final SerializedString[] json = new SerializedString[ScoringEngine.STATE_COUNT];
+
+    ScoreLines(char player1, char player2) {
+        for (int id = 0; id < ScoringEngine.STATE_COUNT; id++) {
+            text[id] = line(id, player1, player2);
+            json[id] = new SerializedString(text[id]);
+            // encodes the quoted UTF-8 form now instead of on the first write
+            json[id].asQuotedUTF8();
+        }
+    }
+
+    public String text(int state) {
+        return text[ScoringEngine.stateId(state)];
+    }
+
+    /**
+     * The line with its JSON escaped UTF-8 bytes already computed, written by Jackson without encoding.
+     */
+    public SerializableString json(int state) {
+        return json[ScoringEngine.stateId(state)];
+    }
+
+    private static String line(int id, char player1, char player2) {
+        return switch (ScoringEngine.status(id)) {
+            case DEUCE -> "Deuce";
+            case ADVANTAGE -> "Advantage Player " + (ScoringEngine.advantagePlayer(id) == ScoringEngine.PLAYER_1 ? player1 : player2);
+            case FINISHED -> "Player " + (ScoringEngine.winner(id) == ScoringEngine.PLAYER_1 ? player1 : player2) + " wins the game";
+            default -> "Player " + player1 + " : " + POINTS[ScoringEngine.player1Points(id)] +
+                    " / Player " + player2 + " : " + POINTS[ScoringEngine.player2Points(id)];
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package org.infrastructure.web.response;
+
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.PackedSequence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the {@code application/octet-stream} form of a score progression, all values big-endian:
+ * <pre>
+ * player1 : u16   player2 : u16   count : i32   states : count bytes
+ * </pre>
+ * Each state is the {@link ScoringEngine#stateId(int)} reached after the point, {@code a * 4 + b} while
+ * both players are under 40, then {@link ScoringEngine#DEUCE}, the advantages and the won states. A game
+ * costs a handful of bytes instead of a sentence per point.
+ */
+public final class StateCodeResponse {
+
+    public static final int HEADER_SIZE = 8;
+
+    private StateCodeResponse() {
+    }
+
+    public static byte[] write(PackedSequence sequence, byte[] states) {
+        return ByteBuffer.allocate(HEADER_SIZE + states.length)
+                .putChar(sequence.player1())
+                .putChar(sequence.player2())
+                .putInt(states.length)
+                .put(states)
+                .array();
+    }
+}
@@ -0,0 +1,7 @@
+package org.infrastructure.web.response;
+
+/**
+ * @param player1 probability that player 1 wins, in the order of the queries
+ */
+public record WinProbabilityBatchResponse(double[] player1) {
+}
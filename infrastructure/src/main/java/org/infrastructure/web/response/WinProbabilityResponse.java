@@ -0,0 +1,8 @@
+package org.infrastructure.web.response;
+
+public record WinProbabilityResponse(double player1, double player2) {
+
+    public static WinProbabilityResponse of(double player1) {
+        return new WinProbabilityResponse(player1, 1 - player1);
+    }
+}
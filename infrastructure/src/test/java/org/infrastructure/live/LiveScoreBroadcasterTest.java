@@ -0,0 +1,176 @@
+package org.infrastructure.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveScoreBroadcasterTest {
+
+    private static final long GAME_ID = 42;
+
+    private final LiveScoreBroadcaster broadcaster = new LiveScoreBroadcaster(new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("Should share one serialized event between all subscribers")
+    void testSharedPayload() throws Exception {
+        // Given
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        broadcaster.subscribe(GAME_ID, current(0, 0), first);
+        broadcaster.subscribe(GAME_ID, current(0, 0), second);
+        first.awaitEvents(1);
+        second.awaitEvents(1);
+
+        // When
+        broadcaster.scoreChanged(GAME_ID, 'A', 'B', ScoringEngine.fromPoints(1, 0));
+
+        // Then
+        first.awaitEvents(2);
+        second.awaitEvents(2);
+        assertSame(first.events.get(1), second.events.get(1));
+        assertEquals("event: score\ndata: {\"id\":\"42\",\"score\":\"Player A : 15 / Player B : 0\",\"status\":\"IN_PROGRESS\"}\n\n",
+                new String(first.events.get(1), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should coalesce updates for a slow subscriber and end on the latest score")
+    void testCoalescing() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber slow = new RecordingSubscriber() {
+            @Override
+            public void send(byte[] event) {
+                super.send(event);
+                awaitQuietly(release);
+            }
+        };
+        broadcaster.subscribe(GAME_ID, current(0, 0), slow);
+
+        // When
+        for (int point = 1; point <= 3; point++) {
+            broadcaster.scoreChanged(GAME_ID, 'A', 'B', ScoringEngine.fromPoints(point, 0));
+        }
+        release.countDown();
+        broadcaster.scoreChanged(GAME_ID, 'A', 'B', ScoringEngine.fromPoints(4, 0));
+
+        // Then
+        slow.awaitCompletion();
+        assertTrue(slow.events.size() < 5);
+        assertTrue(new String(slow.events.getLast(), StandardCharsets.UTF_8).contains("Player A wins the game"));
+        assertEquals(0, broadcaster.subscriberCount(GAME_ID));
+    }
+
+    @Test
+    @DisplayName("Should complete the subscriptions of a removed game")
+    void testRemoved() throws Exception {
+        // Given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        LiveScoreSubscription subscription = broadcaster.subscribe(GAME_ID, current(1, 1), subscriber).orElseThrow();
+        subscriber.awaitEvents(1);
+
+        // When
+        broadcaster.gameRemoved(GAME_ID);
+
+        // Then
+        subscriber.awaitCompletion();
+        assertEquals(1, subscriber.events.size());
+        subscription.cancel();
+        assertEquals(0, broadcaster.subscriberCount(GAME_ID));
+    }
+
+    @Test
+    @DisplayName("Should deliver a point scored while the subscription reads the current score")
+    void testPointDuringSubscribe() throws Exception {
+        // Given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        // When
+        broadcaster.subscribe(GAME_ID, () -> {
+            broadcaster.scoreChanged(GAME_ID, 'A', 'B', ScoringEngine.fromPoints(4, 0));
+            return Optional.of(score(3, 0));
+        }, subscriber);
+
+        // Then
+        subscriber.awaitCompletion();
+        assertTrue(new String(subscriber.events.getLast(), StandardCharsets.UTF_8).contains("Player A wins the game"));
+        assertEquals(0, broadcaster.subscriberCount(GAME_ID));
+    }
+
+    @Test
+    @DisplayName("Should not subscribe to a game removed while the subscription reads the current score")
+    void testRemovedDuringSubscribe() {
+        // Given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        // When
+        Optional<LiveScoreSubscription> subscription = broadcaster.subscribe(GAME_ID, () -> {
+            broadcaster.gameRemoved(GAME_ID);
+            return Optional.empty();
+        }, subscriber);
+
+        // Then
+        assertTrue(subscription.isEmpty());
+        assertEquals(0, broadcaster.subscriberCount(GAME_ID));
+    }
+
+    private static Supplier<Optional<Score>> current(int player1Points, int player2Points) {
+        return () -> Optional.of(score(player1Points, player2Points));
+    }
+
+    private static Score score(int player1Points, int player2Points) {
+        return Score.of('A', 'B', ScoringEngine.fromPoints(player1Points, player2Points));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSubscriber implements LiveScoreSubscriber {
+        final List<byte[]> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(byte[] event) {
+            events.add(event);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count) {
+                assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + count + " events");
+                Thread.sleep(1);
+            }
+        }
+
+        void awaitCompletion() throws InterruptedException {
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
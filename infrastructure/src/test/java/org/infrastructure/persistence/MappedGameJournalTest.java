@@ -0,0 +1,125 @@
+package org.infrastructure.persistence;
+
+import org.domain.model.GameStatus;
+import org.domain.model.LiveGame;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.LiveGameService;
+import org.domain.usecase.LiveGameStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGameJournalTest {
+
+    private static final int SEGMENT_SIZE = 64 * MappedGameJournal.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testRecoverFromJournalOnly() throws Exception {
+        LiveGame deuce;
+        LiveGame finished;
+        try (MappedGameJournal journal = open()) {
+            LiveGameStore store = new LiveGameStore();
+            journal.recover(store, 0);
+            LiveGameService service = new LiveGameService(store, Duration.ofMinutes(1), clock::get, journal);
+            deuce = service.create('A', 'B');
+            finished = service.create('X', 'Y');
+            for (int i = 0; i < 100; i++) {
+                service.addPoint(deuce.getId(), i % 2 == 0 ? 'A' : 'B');
+            }
+            for (int i = 0; i < 4; i++) {
+                service.addPoint(finished.getId(), 'Y');
+            }
+        }
+
+        LiveGameStore recovered = new LiveGameStore();
+        try (MappedGameJournal journal = open()) {
+            journal.recover(recovered, 0);
+        }
+
+        assertEquals(2, recovered.size());
+        Score deuceScore = recovered.get(deuce.getId()).currentScore();
+        assertEquals(GameStatus.DEUCE, deuceScore.status());
+        assertEquals(50, deuceScore.player1().getPoints());
+        assertEquals('Y', recovered.get(finished.getId()).currentScore().winner().getIdentifier());
+    }
+
+    @Test
+    void testRecoverFromSnapshotAndTail() throws Exception {
+        LiveGameStore store = new LiveGameStore();
+        LiveGame before;
+        LiveGame evicted;
+        LiveGame after;
+        try (MappedGameJournal journal = open()) {
+            journal.recover(store, 0);
+            LiveGameService service = new LiveGameService(store, Duration.ofMinutes(1), clock::get, journal);
+            before = service.create('A', 'B');
+            evicted = service.create('C', 'D');
+            for (int i = 0; i < 200; i++) {
+                service.addPoint(before.getId(), i % 2 == 0 ? 'A' : 'B');
+            }
+            journal.snapshot(store);
+
+            clock.set(Duration.ofSeconds(30).toMillis());
+            service.addPoint(before.getId(), 'A');
+            after = service.create('E', 'F');
+            service.addPoint(after.getId(), 'F');
+            clock.set(Duration.ofSeconds(70).toMillis());
+            service.evictIdleGames();
+        }
+
+        LiveGameStore recovered = new LiveGameStore();
+        try (MappedGameJournal journal = open()) {
+            journal.recover(recovered, 0);
+        }
+
+        assertNull(recovered.get(evicted.getId()));
+        assertEquals(GameStatus.ADVANTAGE, recovered.get(before.getId()).currentScore().status());
+        assertEquals(1, recovered.get(after.getId()).currentScore().player2().getPoints());
+        try (var files = Files.list(directory)) {
+            assertTrue(files.anyMatch(path -> path.getFileName().toString().startsWith("snapshot-")));
+        }
+    }
+
+    @Test
+    void testAppendSurvivesSegmentFailure() throws Exception {
+        Path blocker = directory.resolve(String.format("journal-%016x", 1));
+        int segmentSize = 2 * MappedGameJournal.RECORD_SIZE;
+        try (MappedGameJournal journal = new MappedGameJournal(directory, segmentSize, Duration.ofMillis(1), true)) {
+            journal.recover(new LiveGameStore(), 0);
+            journal.recordState(1, 'A', 'B', ScoringEngine.fromPoints(1, 0));
+            journal.recordState(1, 'A', 'B', ScoringEngine.fromPoints(2, 0));
+
+            // a directory in place of the next segment makes mapping it fail
+            Files.createDirectory(blocker);
+            assertThrows(UncheckedIOException.class, () -> journal.recordState(1, 'A', 'B', ScoringEngine.fromPoints(3, 0)));
+            Files.delete(blocker);
+
+            // nothing was reserved for the failed record, so later syncWrites appends still become durable
+            assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> journal.recordState(1, 'A', 'B', ScoringEngine.fromPoints(3, 1)));
+        }
+
+        LiveGameStore recovered = new LiveGameStore();
+        try (MappedGameJournal journal = new MappedGameJournal(directory, segmentSize, Duration.ofMillis(1), true)) {
+            journal.recover(recovered, 0);
+        }
+        assertEquals(1, recovered.get(1).currentScore().player2().getPoints());
+    }
+
+    private MappedGameJournal open() throws Exception {
+        return new MappedGameJournal(directory, SEGMENT_SIZE, Duration.ofMillis(1), true);
+    }
+}
@@ -0,0 +1,79 @@
+package org.infrastructure.web.endpoints;
+
+import org.domain.model.LiveGame;
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.LiveGameService;
+import org.infrastructure.live.LiveScoreBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = LiveGameEndpoint.class)
+@ContextConfiguration(classes = Config.class)
+class LiveGameEndpointTest {
+
+    public static final String BASE_URI = "/api/v1/tennis/games";
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private LiveGameService liveGameService;
+    @MockitoBean
+    private LiveScoreBroadcaster liveScoreBroadcaster;
+
+    @Test
+    void testCreateGameEndpoint() throws Exception {
+        when(liveGameService.create('A', 'B')).thenReturn(new LiveGame(42, 'A', 'B', 0));
+
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"player1\":\"A\",\"player2\":\"B\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("42"))
+                .andExpect(jsonPath("$.score").value("Player A : 0 / Player B : 0"));
+    }
+
+    @Test
+    void testAddPointEndpoint() throws Exception {
+        when(liveGameService.addPoint(42, 'B')).thenReturn(Optional.of(Score.of('A', 'B', ScoringEngine.fromPoints(0, 1))));
+
+        mockMvc.perform(post(BASE_URI + "/42/points")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"player\":\"B\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value("Player A : 0 / Player B : 15"))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void testAddPointUnknownGameEndpoint() throws Exception {
+        when(liveGameService.addPoint(anyLong(), anyChar())).thenReturn(Optional.empty());
+
+        mockMvc.perform(post(BASE_URI + "/7/points")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"player\":\"B\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testSubscribeUnknownGameEndpoint() throws Exception {
+        when(liveGameService.currentScore(anyLong())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get(BASE_URI + "/7/events"))
+                .andExpect(status().isNotFound());
+    }
+}
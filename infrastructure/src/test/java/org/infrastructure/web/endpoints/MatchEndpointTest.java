@@ -0,0 +1,88 @@
+package org.infrastructure.web.endpoints;
+
+import org.domain.model.MatchFormat;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.ScoringMetrics;
+import org.domain.usecase.ValidationError;
+import org.domain.usecase.ValidationErrorCode;
+import org.infrastructure.web.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = MatchEndpoint.class)
+@ContextConfiguration(classes = Config.class)
+@Import(GlobalExceptionHandler.class)
+class MatchEndpointTest {
+
+    public static final String BASE_URI = "/api/v1/tennis/match";
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private MatchQuery matchQuery;
+
+    private final MatchQuery realQuery = new MatchQuery(ScoringMetrics.NOOP);
+
+    @Test
+    void testPlayMatchEndpoint() throws Exception {
+        String sequence = "AAAA".repeat(6) + "ABBBBAAAA".repeat(6) + "ABABABABAB" + "BB" + "BBBB" + "ABABAB" + "B";
+        MatchFormat format = new MatchFormat(5, true, true);
+        when(matchQuery.execute(sequence, format)).thenReturn(realQuery.execute(sequence, format));
+
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"" + sequence + "\",\"bestOf\":5}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sets[0]").value("6-0"))
+                .andExpect(jsonPath("$.sets[1]").value("6-7(5)"))
+                .andExpect(jsonPath("$.games").value("0-1"))
+                .andExpect(jsonPath("$.points").value("Advantage B"))
+                .andExpect(jsonPath("$.winner").doesNotExist());
+    }
+
+    @Test
+    void testPlayMatchFinishedEndpoint() throws Exception {
+        String sequence = "A" + "BBBB".repeat(12);
+        when(matchQuery.execute(eq(sequence), any())).thenReturn(realQuery.execute(sequence, MatchFormat.BEST_OF_3));
+
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"" + sequence + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.winner").value("B"))
+                .andExpect(jsonPath("$.pointsPlayed").value(49))
+                .andExpect(jsonPath("$.games").doesNotExist());
+    }
+
+    @Test
+    void testPlayMatchInvalidEndpoint() throws Exception {
+        when(matchQuery.execute(any(), any())).thenThrow(
+                new ValidationError(ValidationErrorCode.INVALID_CHARACTER, 1, "Invalid character in sequence: 1. Only letters are allowed.").toException());
+
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"A1\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CHARACTER"));
+    }
+
+    @Test
+    void testPlayMatchInvalidFormatEndpoint() throws Exception {
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"AB\",\"bestOf\":4}"))
+                .andExpect(status().isBadRequest());
+    }
+}
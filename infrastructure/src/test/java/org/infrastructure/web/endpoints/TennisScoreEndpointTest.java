@@ -1,22 +1,56 @@
 package org.infrastructure.web.endpoints;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.model.Player;
+import org.domain.model.Score;
+import org.domain.model.TennisGame;
+import org.domain.usecase.BatchItemResult;
+import org.domain.usecase.BatchTennisScoreQuery;
+import org.domain.usecase.CompressedScores;
 import org.domain.usecase.GameResult;
+import org.domain.usecase.GameSequenceProcessor;
+import org.domain.usecase.PackedSequence;
+import org.domain.usecase.ScoreProjection;
+import org.domain.usecase.ScoreRangeQuery;
+import org.domain.usecase.ScoreSink;
 import org.domain.usecase.TennisScoreQuery;
+import org.domain.usecase.ValidationError;
+import org.domain.usecase.ValidationErrorCode;
+import org.infrastructure.web.GlobalExceptionHandler;
+import org.infrastructure.web.request.GameSequenceBatchRequest;
 import org.infrastructure.web.request.GameSequenceRequest;
+import org.infrastructure.web.request.PackedSequenceRequest;
+import org.infrastructure.web.response.ResponseBodyCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -26,6 +60,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 
 @WebMvcTest(controllers = TennisScoreEndpoint.class)
 @ContextConfiguration(classes = Config.class)
+@Import({GlobalExceptionHandler.class, TennisScoreEndpointTest.ResponseCacheConfig.class})
 class TennisScoreEndpointTest {
 
     public static final String SEQUENCE = "MNMNMN";
@@ -36,12 +71,16 @@ class TennisScoreEndpointTest {
     private MockMvc mockMvc;
     @MockitoBean
     private TennisScoreQuery tennisScoreQuery;
+    @MockitoBean
+    private BatchTennisScoreQuery batchTennisScoreQuery;
+    @MockitoBean
+    private ScoreRangeQuery scoreRangeQuery;
     @Autowired
     private ObjectMapper objectMapper;
 
     @Test
     void testPlayGameEndpoint() throws Exception {
-        when(tennisScoreQuery.execute(any())).thenReturn(new GameResult(SEQUENCE1, Collections.emptyList()));
+        when(tennisScoreQuery.evaluate(any(), any(), anyInt())).thenReturn(new GameResult(SEQUENCE1, Collections.emptyList()));
         GameSequenceRequest request = new GameSequenceRequest(SEQUENCE1);
 
         mockMvc.perform(post(BASE_URI)
@@ -58,10 +97,234 @@ class TennisScoreEndpointTest {
 
     @Test
     void testPlayGameByPathEndpoint() throws Exception {
-        when(tennisScoreQuery.execute(any())).thenReturn(new GameResult(SEQUENCE, Collections.emptyList()));
+        when(tennisScoreQuery.evaluate(any(), any(), anyInt())).thenReturn(new GameResult(SEQUENCE, Collections.emptyList()));
         mockMvc.perform(get(BASE_URI + SEPARATOR +SEQUENCE))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.sequence").value(SEQUENCE))
                 .andExpect(jsonPath("$.scores").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPlayGamesBatchEndpoint() throws Exception {
+        when(batchTennisScoreQuery.execute(any())).thenReturn(List.of(
+                BatchItemResult.success(new GameResult(SEQUENCE, Collections.emptyList())),
+                BatchItemResult.failure("ABC", "Sequence must contain exactly two different letters. Found: 3")));
+        GameSequenceBatchRequest request = new GameSequenceBatchRequest(List.of(SEQUENCE, "ABC"));
+
+        mockMvc.perform(post(BASE_URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].sequence").value(SEQUENCE))
+                .andExpect(jsonPath("$.results[0].scores").isArray())
+                .andExpect(jsonPath("$.results[1].sequence").value("ABC"))
+                .andExpect(jsonPath("$.results[1].error").exists());
+    }
+
+    @Test
+    void testPlayGamesBatchTooLargeEndpoint() throws Exception {
+        when(batchTennisScoreQuery.validate(any())).thenReturn(Optional.of(new ValidationError(
+                ValidationErrorCode.BATCH_TOO_LARGE, -1, "Batch of 2 sequences exceeds the maximum of 1")));
+
+        mockMvc.perform(post(BASE_URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequences\":[\"ABAAA\",\"BABBB\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Batch Too Large"))
+                .andExpect(jsonPath("$.code").value("BATCH_TOO_LARGE"));
+        verify(batchTennisScoreQuery, never()).execute(any());
+    }
+
+    @Test
+    void testPlayGamesBatchMissingSequencesEndpoint() throws Exception {
+        mockMvc.perform(post(BASE_URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Request"))
+                .andExpect(jsonPath("$.detail").value("Sequences cannot be null or empty"));
+        mockMvc.perform(post(BASE_URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequences\":[\"AB\",null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Sequences cannot contain null"));
+    }
+
+    @Test
+    void testPlayGameStreamEndpoint() throws Exception {
+        doAnswer(invocation -> {
+            ScoreSink sink = invocation.getArgument(1);
+            TennisGame game = new TennisGame(new Player('X'), new Player('Y'));
+            sink.accept(game.addPoint(new Player('X')));
+            sink.accept(game.addPoint(new Player('Y')));
+            return Optional.empty();
+        }).when(tennisScoreQuery).stream(eq(SEQUENCE1), any());
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + SEQUENCE1 + "/stream"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("""
+                        "Player X : 15 / Player Y : 0"
+                        "Player X : 15 / Player Y : 15"
+                        """));
+    }
+
+    @Test
+    void testPlayGameProjectionEndpoint() throws Exception {
+        when(tennisScoreQuery.evaluate(SEQUENCE1, ScoreProjection.WINNER, 1))
+                .thenReturn(new GameResult(SEQUENCE1, new GameSequenceProcessor().processGameSequence(SEQUENCE1).subList(5, 6)));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + SEQUENCE1).param("mode", "WINNER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scores.length()").value(1))
+                .andExpect(jsonPath("$.scores[0]").value("Player X wins the game"));
+    }
+
+    @Test
+    void testPlayGameInvalidIntervalEndpoint() throws Exception {
+        when(tennisScoreQuery.evaluate(any(), any(), anyInt())).thenThrow(new IllegalArgumentException("Interval must be at least 1"));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + SEQUENCE1).param("mode", "EVERY_NTH").param("n", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPlayGameValidationErrorEndpoint() throws Exception {
+        when(tennisScoreQuery.evaluate(any(), any(), anyInt())).thenReturn(
+                new ValidationError(ValidationErrorCode.INVALID_CHARACTER, 2, "Invalid character in sequence: 1. Only letters are allowed."));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + "AB1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Sequence"))
+                .andExpect(jsonPath("$.code").value("INVALID_CHARACTER"))
+                .andExpect(jsonPath("$.position").value(2));
+    }
+
+    @Test
+    void testPlayGameStreamValidationErrorEndpoint() throws Exception {
+        when(tennisScoreQuery.stream(any(), any())).thenReturn(Optional.of(
+                new ValidationError(ValidationErrorCode.WRONG_PLAYER_COUNT, 2, "Sequence must contain exactly two different letters. Found: 3")));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + "ABC/stream"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Invalid Sequence"))
+                .andExpect(jsonPath("$.code").value("WRONG_PLAYER_COUNT"))
+                .andExpect(jsonPath("$.position").value(2));
+    }
+
+    @Test
+    void testPlayGamePackedEndpoint() throws Exception {
+        PackedSequence sequence = PackedSequence.pack(SEQUENCE1);
+        when(tennisScoreQuery.stateCodes(argThat(packed -> packed.player1() == 'X' && packed.length() == 6
+                && Arrays.equals(packed.points(), sequence.points())))).thenReturn(new byte[]{4, 5, 9, 10, 14, 20});
+
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(PackedSequenceRequest.write(sequence)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(new byte[]{0, 'X', 0, 'Y', 0, 0, 0, 6, 4, 5, 9, 10, 14, 20}));
+    }
+
+    @Test
+    void testPlayGamePackedLengthMismatchEndpoint() throws Exception {
+        mockMvc.perform(post(BASE_URI)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[]{0, 'X', 0, 'Y', 0, 0, 0, 9, 0}))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Invalid Request"))
+                .andExpect(jsonPath("$.detail").isNotEmpty());
+    }
+
+    @Test
+    void testPlayGameRangeEndpoint() throws Exception {
+        when(scoreRangeQuery.evaluate(SEQUENCE1, 4, 6))
+                .thenReturn(new GameResult(SEQUENCE1, new GameSequenceProcessor().processGameSequence(SEQUENCE1).subList(4, 6)));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + SEQUENCE1 + "/scores").param("from", "4").param("to", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scores.length()").value(2))
+                .andExpect(jsonPath("$.scores[1]").value("Player X wins the game"));
+    }
+
+    @Test
+    void testPlayGameRangeBodyEndpoint() throws Exception {
+        when(scoreRangeQuery.evaluate(SEQUENCE1, 0, 2))
+                .thenReturn(new GameResult(SEQUENCE1, new GameSequenceProcessor().processGameSequence(SEQUENCE1).subList(0, 2)));
+
+        mockMvc.perform(post(BASE_URI + "/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"" + SEQUENCE1 + "\",\"to\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scores.length()").value(2));
+    }
+
+    @Test
+    void testPlayGameRangeBodyMissingEndEndpoint() throws Exception {
+        mockMvc.perform(post(BASE_URI + "/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"" + SEQUENCE1 + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("The end of the range is required"));
+    }
+
+    @Test
+    void testPlayGameRangeOutsideEndpoint() throws Exception {
+        when(scoreRangeQuery.evaluate(any(), anyInt(), anyInt())).thenReturn(
+                new ValidationError(ValidationErrorCode.INVALID_RANGE, -1, "Range 9 to 10 is outside the 6 points played"));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + SEQUENCE1 + "/scores").param("from", "9").param("to", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Range"))
+                .andExpect(jsonPath("$.code").value("INVALID_RANGE"));
+    }
+
+    @Test
+    void testPlayGameCompressedEndpoint() throws Exception {
+        String rally = "XYXYXY" + "XY".repeat(100) + "XX";
+        when(tennisScoreQuery.evaluate(rally, ScoreProjection.ALL, 1))
+                .thenReturn(new GameResult(rally, CompressedScores.of(new GameSequenceProcessor().processGameSequence(rally))));
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + rally).param("compressed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scores.length()").value(6))
+                .andExpect(jsonPath("$.cycles[0].player").value("X"))
+                .andExpect(jsonPath("$.cycles[0].count").value(100))
+                .andExpect(jsonPath("$.tail[1]").value("Player X wins the game"));
+    }
+
+    @Test
+    void testPlayGamePathCachedEndpoint() throws Exception {
+        String sequence = "PQPQPP";
+        when(tennisScoreQuery.evaluate(sequence, ScoreProjection.ALL, 1))
+                .thenReturn(new GameResult(sequence, new GameSequenceProcessor().processGameSequence(sequence)));
+
+        MvcResult first = mockMvc.perform(get(BASE_URI + SEPARATOR + sequence))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andExpect(jsonPath("$.scores[5]").value("Player P wins the game"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URI + SEPARATOR + sequence))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(first.getResponse().getContentAsByteArray()));
+        mockMvc.perform(get(BASE_URI + SEPARATOR + sequence).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        verify(tennisScoreQuery, times(1)).evaluate(sequence, ScoreProjection.ALL, 1);
+    }
+
+    @TestConfiguration
+    static class ResponseCacheConfig {
+        @Bean
+        ResponseBodyCache responseBodyCache(ObjectMapper objectMapper) {
+            return new ResponseBodyCache(1 << 20, 1 << 16, Duration.ofHours(1), objectMapper);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.infrastructure.web.endpoints;
+
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.MatchQuery;
+import org.domain.usecase.MatchResult;
+import org.domain.usecase.ScoringMetrics;
+import org.domain.usecase.WinProbabilityQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = WinProbabilityEndpoint.class)
+@ContextConfiguration(classes = Config.class)
+class WinProbabilityEndpointTest {
+
+    public static final String BASE_URI = "/api/v1/tennis/probability";
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private WinProbabilityQuery winProbabilityQuery;
+    @MockitoBean
+    private MatchQuery matchQuery;
+
+    @Test
+    void testGameWinProbabilityEndpoint() throws Exception {
+        when(winProbabilityQuery.gameWinProbability(ScoringEngine.fromPoints(4, 3), 0.6)).thenReturn(0.75);
+
+        mockMvc.perform(get(BASE_URI + "/game?player1Points=4&player2Points=3&p=0.6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.player1").value(0.75))
+                .andExpect(jsonPath("$.player2").value(0.25));
+    }
+
+    @Test
+    void testGameWinProbabilityInvalidEndpoint() throws Exception {
+        when(winProbabilityQuery.gameWinProbability(anyInt(), eq(1.5))).thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(get(BASE_URI + "/game?p=1.5"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(BASE_URI + "/game?player1Points=-1&p=0.5"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGameWinProbabilitiesEndpoint() throws Exception {
+        when(winProbabilityQuery.gameWinProbability(ScoringEngine.INITIAL, 0.5)).thenReturn(0.5);
+        when(winProbabilityQuery.gameWinProbability(ScoringEngine.fromPoints(3, 0), 0.7)).thenReturn(0.99);
+
+        mockMvc.perform(post(BASE_URI + "/game/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"queries\":[{\"player1Points\":0,\"player2Points\":0,\"p\":0.5},"
+                                + "{\"player1Points\":3,\"player2Points\":0,\"p\":0.7}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.player1[0]").value(0.5))
+                .andExpect(jsonPath("$.player1[1]").value(0.99));
+    }
+
+    @Test
+    void testMatchWinProbabilityEndpoint() throws Exception {
+        String sequence = "B" + "AAAA".repeat(6);
+        MatchResult result = new MatchQuery(ScoringMetrics.NOOP).execute(sequence, MatchFormat.BEST_OF_3);
+        when(matchQuery.execute(sequence, MatchFormat.BEST_OF_3)).thenReturn(result);
+        when(winProbabilityQuery.matchWinProbability(MatchFormat.BEST_OF_3, result.state(), 0.5)).thenReturn(0.8);
+
+        mockMvc.perform(post(BASE_URI + "/match?p=0.5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sequence\":\"" + sequence + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.player1").value(0.8));
+    }
+}
@@ -0,0 +1,92 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.model.Score;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.CompressedScores;
+import org.domain.usecase.GameSequenceProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameResultSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write the sequence and the formatted scores")
+    void testSerialize() throws Exception {
+        // Given
+        String sequence = "ABABAA";
+        GameResult result = new GameResult(sequence, new GameSequenceProcessor().processGameSequence(sequence));
+
+        // When
+        String json = objectMapper.writeValueAsString(GameResultResponse.of(result));
+
+        // Then
+        assertEquals("{\"sequence\":\"ABABAA\",\"scores\":[" +
+                "\"Player A : 15 / Player B : 0\"," +
+                "\"Player A : 15 / Player B : 15\"," +
+                "\"Player A : 30 / Player B : 15\"," +
+                "\"Player A : 30 / Player B : 30\"," +
+                "\"Player A : 40 / Player B : 30\"," +
+                "\"Player A wins the game\"]}", json);
+    }
+
+    @Test
+    @DisplayName("Should keep the shape of the previous reflective response")
+    void testSameShape() throws Exception {
+        // Given
+        String sequence = "xyxyxyxyyy";
+        GameResult result = new GameResult(sequence, new GameSequenceProcessor().processGameSequence(sequence));
+        GameResultResponse response = GameResultResponse.of(result);
+
+        // When
+        Map<?, ?> written = objectMapper.readValue(objectMapper.writeValueAsString(response), Map.class);
+
+        // Then
+        assertEquals(Map.of("sequence", sequence, "scores", List.copyOf(response.scores())), written);
+    }
+
+    @Test
+    @DisplayName("Should write deuce rallies as runs in compressed mode")
+    void testCompressed() throws Exception {
+        // Given
+        String sequence = "ABABAB" + "AB".repeat(3) + "BB";
+        GameResult result = new GameResult(sequence, CompressedScores.of(new GameSequenceProcessor().processGameSequence(sequence)));
+
+        // When
+        String json = objectMapper.writeValueAsString(GameResultResponse.of(result, true));
+
+        // Then
+        assertEquals("{\"sequence\":\"ABABABABABABBB\",\"scores\":[" +
+                "\"Player A : 15 / Player B : 0\"," +
+                "\"Player A : 15 / Player B : 15\"," +
+                "\"Player A : 30 / Player B : 15\"," +
+                "\"Player A : 30 / Player B : 30\"," +
+                "\"Player A : 40 / Player B : 30\"," +
+                "\"Deuce\"]," +
+                "\"cycles\":[{\"player\":\"A\",\"count\":3}]," +
+                "\"tail\":[\"Advantage Player B\",\"Player B wins the game\"]}", json);
+        assertEquals(14, objectMapper.readTree(objectMapper.writeValueAsString(GameResultResponse.of(result))).get("scores").size());
+    }
+
+    @Test
+    @DisplayName("Should write compressed scores in full like the plain list")
+    void testCompressedInFull() throws Exception {
+        // Given
+        String sequence = "xyxyxy" + "yx".repeat(20) + "xx";
+        List<Score> scores = new GameSequenceProcessor().processGameSequence(sequence);
+
+        // When
+        String plain = objectMapper.writeValueAsString(GameResultResponse.of(new GameResult(sequence, scores)));
+        String compressed = objectMapper.writeValueAsString(GameResultResponse.of(new GameResult(sequence, CompressedScores.of(scores))));
+
+        // Then
+        assertEquals(plain, compressed);
+    }
+}
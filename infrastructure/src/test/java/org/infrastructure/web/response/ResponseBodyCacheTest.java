@@ -0,0 +1,95 @@
+package org.infrastructure.web.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.domain.usecase.GameResult;
+import org.domain.usecase.GameSequenceProcessor;
+import org.domain.usecase.ScoreProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should store the serialized body with a strong ETag of its bytes")
+    void testPut() throws Exception {
+        // Given
+        ResponseBodyCache cache = new ResponseBodyCache(1 << 20, 1 << 16, Duration.ofHours(1), objectMapper);
+        GameResult result = result("ABABAA");
+
+        // When
+        ResponseBodyCache.CachedBody stored = cache.put("ABABAA", ScoreProjection.ALL, 1, false, result);
+
+        // Then
+        assertSame(stored, cache.get("ABABAA", ScoreProjection.ALL, 1, false));
+        assertArrayEquals(objectMapper.writeValueAsBytes(GameResultResponse.of(result)), stored.body());
+        assertTrue(stored.etag().matches("\"[A-Za-z0-9_-]{22}\""), stored.etag());
+        assertNull(cache.get("ABABAA", ScoreProjection.ALL, 1, true));
+        assertNull(cache.get("ABABAA", ScoreProjection.FINAL, 1, false));
+    }
+
+    @Test
+    @DisplayName("Should give equal bodies the same ETag and different bodies different ones")
+    void testEtag() {
+        ResponseBodyCache cache = new ResponseBodyCache(1 << 20, 1 << 16, Duration.ofHours(1), objectMapper);
+
+        String first = cache.put("ABABAA", ScoreProjection.ALL, 1, false, result("ABABAA")).etag();
+        String again = cache.put("ABABAA", ScoreProjection.ALL, 2, false, result("ABABAA")).etag();
+        String other = cache.put("ABABBB", ScoreProjection.ALL, 1, false, result("ABABBB")).etag();
+
+        assertEquals(first, again);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    @DisplayName("Should serve bodies above the size limit without storing them")
+    void testMaximumBodySize() {
+        ResponseBodyCache cache = new ResponseBodyCache(1 << 20, 64, Duration.ofHours(1), objectMapper);
+
+        ResponseBodyCache.CachedBody body = cache.put("ABABAA", ScoreProjection.ALL, 1, false, result("ABABAA"));
+
+        assertTrue(body.body().length > 64);
+        assertNull(cache.get("ABABAA", ScoreProjection.ALL, 1, false));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used bodies once their total size exceeds the byte budget")
+    void testMaximumBytes() throws Exception {
+        String[] sequences = {"ABABAA", "ABABBB", "ABAAA", "BABBB", "AABBAA", "BBAABB", "ABBAAA", "BAABBB"};
+        long bodies = 0;
+        for (String sequence : sequences) {
+            bodies += objectMapper.writeValueAsBytes(GameResultResponse.of(result(sequence))).length;
+        }
+        ResponseBodyCache cache = new ResponseBodyCache(bodies + 64, 1 << 16, Duration.ofHours(1), objectMapper);
+
+        for (String sequence : sequences) {
+            cache.put(sequence, ScoreProjection.ALL, 1, false, result(sequence));
+        }
+
+        assertTrue(cache.stats().evictions() > 0, "key and entry overhead count towards the budget");
+        assertNull(cache.get("ABABAA", ScoreProjection.ALL, 1, false));
+        assertNotNull(cache.get("BAABBB", ScoreProjection.ALL, 1, false));
+    }
+
+    @Test
+    @DisplayName("Should not store an entry whose sequence alone exceeds the byte budget")
+    void testLongSequenceKey() {
+        ResponseBodyCache cache = new ResponseBodyCache(1024, 1 << 16, Duration.ofHours(1), objectMapper);
+        String sequence = "AB".repeat(300) + "AAAA";
+
+        cache.put(sequence, ScoreProjection.FINAL, 1, false, result(sequence));
+
+        assertNull(cache.get(sequence, ScoreProjection.FINAL, 1, false));
+        assertEquals(0, cache.stats().size());
+    }
+
+    private static GameResult result(String sequence) {
+        return new GameResult(sequence, new GameSequenceProcessor().processGameSequence(sequence));
+    }
+}
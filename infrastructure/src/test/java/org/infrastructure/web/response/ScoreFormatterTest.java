@@ -0,0 +1,54 @@
+package org.infrastructure.web.response;
+
+import org.domain.model.Score;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.GameSequenceProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreFormatterTest {
+
+    @ParameterizedTest
+    @DisplayName("Should format every kind of score")
+    @CsvSource({
+            "0, 0, Player A : 0 / Player B : 0",
+            "2, 1, Player A : 30 / Player B : 15",
+            "3, 3, Deuce",
+            "9, 8, Advantage Player A",
+            "7, 8, Advantage Player B",
+            "4, 2, Player A wins the game",
+            "10, 12, Player B wins the game"
+    })
+    void testFormat(int player1Points, int player2Points, String expected) {
+        Score score = Score.of('A', 'B', ScoringEngine.fromPoints(player1Points, player2Points));
+
+        assertEquals(expected, ScoreFormatter.format(score));
+        assertEquals(expected, new String(ScoreFormatter.formatJson(score).asQuotedUTF8(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should reuse the same line for every occurrence of a score")
+    void testNoAllocationPerPoint() {
+        List<Score> scores = new GameSequenceProcessor().processGameSequence("XYXYXYXYXYXX");
+
+        assertSame(ScoreFormatter.format(scores.get(5)), ScoreFormatter.format(scores.get(7)));
+        assertSame(ScoreFormatter.lines('X', 'Y'), ScoreFormatter.lines('X', 'Y'));
+        assertEquals("Deuce", ScoreFormatter.format(scores.get(9)));
+    }
+
+    @Test
+    @DisplayName("Should format players outside of ASCII")
+    void testNonAsciiPlayers() {
+        Score score = Score.of('É', 'Ø', ScoringEngine.fromPoints(1, 0));
+
+        assertEquals("Player É : 15 / Player Ø : 0", ScoreFormatter.format(score));
+        assertSame(ScoreFormatter.lines('É', 'Ø'), ScoreFormatter.lines('É', 'Ø'));
+    }
+}
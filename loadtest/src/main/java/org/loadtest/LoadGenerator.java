@@ -0,0 +1,131 @@
+package org.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load: each client runs on its own virtual thread and sends its next request as soon as it got the
+ * previous response, so the offered load adapts to the server and latencies are those seen at that concurrency.
+ * <p>
+ * Every client records into its own histograms, merged once all clients stopped, and draws its routes and
+ * sequences from its own split of the seeded generator so that runs with the same options send the same
+ * requests.
+ */
+public class LoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadTestOptions options;
+
+    public LoadGenerator(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public LoadTestReport run(URI baseUri) throws InterruptedException {
+        SequenceGenerator sequences = new SequenceGenerator(options.minLength(), options.maxLength());
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long end = recordFrom + options.duration().toNanos();
+
+        ClientStats stats = new ClientStats();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ClientStats>> results = new ArrayList<>(options.concurrency());
+            for (int i = 0; i < options.concurrency(); i++) {
+                SplittableRandom random = seeds.split();
+                results.add(clients.submit(() -> load(client, baseUri, sequences, random, recordFrom, end)));
+            }
+            for (Future<ClientStats> result : results) {
+                stats.merge(result.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load client failed", e.getCause());
+        }
+        return report(baseUri, stats, options.duration().toNanos() / 1e9);
+    }
+
+    private ClientStats load(HttpClient client, URI baseUri, SequenceGenerator sequences, SplittableRandom random,
+                             long recordFrom, long end) throws InterruptedException {
+        ClientStats stats = new ClientStats();
+        while (true) {
+            Route route = options.mix().pick(random);
+            HttpRequest request = route.request(baseUri, sequences, options.batchSize(), random);
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                return stats;
+            }
+            boolean failed;
+            try {
+                failed = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 != 2;
+            } catch (IOException e) {
+                failed = true;
+            }
+            if (sent >= recordFrom) {
+                stats.record(route, System.nanoTime() - sent, failed);
+            }
+        }
+    }
+
+    private LoadTestReport report(URI baseUri, ClientStats stats, double seconds) {
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long errors = 0;
+        Map<String, LoadTestReport.Measurement> routes = new LinkedHashMap<>();
+        for (Route route : Route.values()) {
+            Histogram latencies = stats.latencies[route.ordinal()];
+            if (latencies.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(latencies);
+            errors += stats.errors[route.ordinal()];
+            routes.put(route.key(), LoadTestReport.Measurement.of(latencies, stats.errors[route.ordinal()], seconds));
+        }
+        return new LoadTestReport(baseUri.toString(), options.concurrency(), options.warmup().toNanos() / 1e9, seconds,
+                options.mix().toString(), options.minLength(), options.maxLength(), options.batchSize(),
+                options.seed(), LoadTestReport.Measurement.of(total, errors, seconds), routes);
+    }
+
+    private static final class ClientStats {
+
+        private final Histogram[] latencies = new Histogram[Route.values().length];
+        private final long[] errors = new long[Route.values().length];
+
+        private ClientStats() {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new Histogram(SIGNIFICANT_DIGITS);
+            }
+        }
+
+        void record(Route route, long latencyNanos, boolean failed) {
+            latencies[route.ordinal()].recordValue(latencyNanos);
+            if (failed) {
+                errors[route.ordinal()]++;
+            }
+        }
+
+        void merge(ClientStats other) {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i].add(other.latencies[i]);
+                errors[i] += other.errors[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Drives the scoring routes of a running or freshly started {@code TennisApp} and writes throughput and latency
+ * percentiles to a JSON report.
+ * <p>
+ * Usage: {@code java -jar loadtest/target/tennis-loadtest.jar [--url=URL | --server-jar=PATH] [--server-arg=ARG]...
+ * [--server-jvm-arg=ARG]... [--concurrency=N] [--warmup=SECONDS] [--duration=SECONDS]
+ * [--mix=play:60,path:30,batch:10] [--length=MIN-MAX] [--batch-size=N] [--seed=SEED] [--output=FILE]}
+ */
+public class LoadTestApp {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        LoadTestReport report;
+        if (options.url() != null) {
+            report = new LoadGenerator(options).run(options.url());
+        } else {
+            Path log = Path.of(options.output() + ".server.log");
+            try (ServerProcess server = ServerProcess.start(options.serverJar(), options.serverJvmArgs(),
+                    options.serverArgs(), log, STARTUP_TIMEOUT)) {
+                report = new LoadGenerator(options).run(server.baseUri());
+            }
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), report);
+
+        LoadTestReport.Measurement total = report.total();
+        System.out.printf("%d requests (%d errors) in %.0f s: %.0f req/s, p50 %.0f us, p99 %.0f us, p99.9 %.0f us%n",
+                total.requests(), total.errors(), report.durationSeconds(), total.throughput(), total.p50Micros(),
+                total.p99Micros(), total.p999Micros());
+        System.out.println("Report written to " + options.output());
+    }
+}
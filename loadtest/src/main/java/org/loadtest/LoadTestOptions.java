@@ -0,0 +1,111 @@
+package org.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line options of {@link LoadTestApp}.
+ *
+ * @param url           server to load, {@code null} to start {@code serverJar} on a free local port
+ * @param serverArgs    application arguments of the started server, such as {@code --spring.profiles.active=reactive}
+ * @param serverJvmArgs JVM options of the started server, such as {@code -Xmx1g}
+ * @param concurrency   number of clients, each sending its next request once it got the previous response
+ * @param warmup        time spent loading the server before latencies are recorded
+ * @param batchSize     number of sequences in each batch request
+ */
+public record LoadTestOptions(URI url, Path serverJar, List<String> serverArgs, List<String> serverJvmArgs,
+                              int concurrency, Duration warmup, Duration duration, RequestMix mix,
+                              int minLength, int maxLength, int batchSize, long seed, Path output) {
+
+    public static final Path DEFAULT_SERVER_JAR = Path.of("configuration/target/configuration-1.0-SNAPSHOT.jar");
+    public static final Path DEFAULT_OUTPUT = Path.of("loadtest-report.json");
+
+    static final String USAGE = "Usage: java -jar tennis-loadtest.jar [--url=URL | --server-jar=PATH] "
+            + "[--server-arg=ARG]... [--server-jvm-arg=ARG]... [--concurrency=N] [--warmup=SECONDS] "
+            + "[--duration=SECONDS] [--mix=play:60,path:30,batch:10] [--length=MIN-MAX] [--batch-size=N] "
+            + "[--seed=SEED] [--output=FILE]";
+
+    public LoadTestOptions {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        if (warmup.isNegative() || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive and warmup cannot be negative");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        // validates the lengths
+        new SequenceGenerator(minLength, maxLength);
+        serverArgs = List.copyOf(serverArgs);
+        serverJvmArgs = List.copyOf(serverJvmArgs);
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        URI url = null;
+        Path serverJar = DEFAULT_SERVER_JAR;
+        List<String> serverArgs = new ArrayList<>();
+        List<String> serverJvmArgs = new ArrayList<>();
+        int concurrency = 64;
+        Duration warmup = Duration.ofSeconds(5);
+        Duration duration = Duration.ofSeconds(30);
+        RequestMix mix = RequestMix.parse("play:60,path:30,batch:10");
+        int minLength = SequenceGenerator.MIN_LENGTH;
+        int maxLength = 64;
+        int batchSize = 16;
+        long seed = System.nanoTime();
+        Path output = DEFAULT_OUTPUT;
+        for (String arg : args) {
+            if (arg.startsWith("--url=")) {
+                url = URI.create(value(arg));
+            } else if (arg.startsWith("--server-jar=")) {
+                serverJar = Path.of(value(arg));
+            } else if (arg.startsWith("--server-arg=")) {
+                serverArgs.add(value(arg));
+            } else if (arg.startsWith("--server-jvm-arg=")) {
+                serverJvmArgs.add(value(arg));
+            } else if (arg.startsWith("--concurrency=")) {
+                concurrency = (int) parseLong(arg);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Duration.ofSeconds(parseLong(arg));
+            } else if (arg.startsWith("--duration=")) {
+                duration = Duration.ofSeconds(parseLong(arg));
+            } else if (arg.startsWith("--mix=")) {
+                mix = RequestMix.parse(value(arg));
+            } else if (arg.startsWith("--length=")) {
+                String[] bounds = value(arg).split("-", 2);
+                minLength = (int) parseLong(arg, bounds[0]);
+                maxLength = bounds.length == 2 ? (int) parseLong(arg, bounds[1]) : minLength;
+            } else if (arg.startsWith("--batch-size=")) {
+                batchSize = (int) parseLong(arg);
+            } else if (arg.startsWith("--seed=")) {
+                seed = parseLong(arg);
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(value(arg));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return new LoadTestOptions(url, serverJar, serverArgs, serverJvmArgs, concurrency, warmup, duration, mix,
+                minLength, maxLength, batchSize, seed, output);
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    private static long parseLong(String arg) {
+        return parseLong(arg, value(arg));
+    }
+
+    private static long parseLong(String arg, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in option: " + arg);
+        }
+    }
+}
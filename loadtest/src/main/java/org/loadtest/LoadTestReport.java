@@ -0,0 +1,33 @@
+package org.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Machine readable outcome of a load test run, latencies in microseconds.
+ *
+ * @param routes measurements of each route of the mix, keyed by {@link Route#key()}
+ */
+public record LoadTestReport(String target, int concurrency, double warmupSeconds, double durationSeconds,
+                             String mix, int minLength, int maxLength, int batchSize, long seed,
+                             Measurement total, Map<String, Measurement> routes) {
+
+    /**
+     * @param errors requests that failed or got a status other than 2xx, included in {@code requests}
+     */
+    public record Measurement(long requests, long errors, double throughput, double meanMicros,
+                              double p50Micros, double p99Micros, double p999Micros, double maxMicros) {
+
+        static Measurement of(Histogram latencies, long errors, double seconds) {
+            long requests = latencies.getTotalCount();
+            return new Measurement(requests, errors, requests / seconds, latencies.getMean() / 1e3,
+                    micros(latencies, 50), micros(latencies, 99), micros(latencies, 99.9),
+                    latencies.getMaxValue() / 1e3);
+        }
+
+        private static double micros(Histogram latencies, double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1e3;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Relative weights of the routes, parsed from {@code route:weight} pairs such as {@code play:60,path:30,batch:10}.
+ */
+public final class RequestMix {
+
+    private final Map<Route, Integer> weights;
+    private final Route[] routes;
+    private final int[] cumulative;
+
+    private RequestMix(Map<Route, Integer> weights) {
+        this.weights = weights;
+        this.routes = weights.keySet().toArray(Route[]::new);
+        this.cumulative = new int[routes.length];
+        int total = 0;
+        for (int i = 0; i < routes.length; i++) {
+            total += weights.get(routes[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    public static RequestMix parse(String mix) {
+        Map<Route, Integer> weights = new EnumMap<>(Route.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry, expected route:weight: " + entry);
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in mix entry: " + entry);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights cannot be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Route.of(parts[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix must give a positive weight to at least one route");
+        }
+        return new RequestMix(weights);
+    }
+
+    public Route pick(SplittableRandom random) {
+        int draw = random.nextInt(cumulative[cumulative.length - 1]);
+        int i = 0;
+        while (cumulative[i] <= draw) {
+            i++;
+        }
+        return routes[i];
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(entry -> entry.getKey().key() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,70 @@
+package org.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+/**
+ * Scoring routes exercised by the load test.
+ */
+public enum Route {
+
+    /** {@code POST /api/v1/tennis/play} with a JSON sequence. */
+    PLAY("play") {
+        @Override
+        HttpRequest request(URI baseUri, SequenceGenerator sequences, int batchSize, SplittableRandom random) {
+            return json(baseUri.resolve(BASE_PATH + "/play"), "{\"sequence\":\"" + sequences.next(random) + "\"}");
+        }
+    },
+    /** {@code GET /api/v1/tennis/play/{sequence}}. */
+    PATH("path") {
+        @Override
+        HttpRequest request(URI baseUri, SequenceGenerator sequences, int batchSize, SplittableRandom random) {
+            return HttpRequest.newBuilder(baseUri.resolve(BASE_PATH + "/play/" + sequences.next(random))).GET().build();
+        }
+    },
+    /** {@code POST /api/v1/tennis/play/batch} with {@code batchSize} sequences. */
+    BATCH("batch") {
+        @Override
+        HttpRequest request(URI baseUri, SequenceGenerator sequences, int batchSize, SplittableRandom random) {
+            StringBuilder body = new StringBuilder("{\"sequences\":[");
+            for (int i = 0; i < batchSize; i++) {
+                body.append(i == 0 ? "\"" : ",\"").append(sequences.next(random)).append('"');
+            }
+            return json(baseUri.resolve(BASE_PATH + "/play/batch"), body.append("]}").toString());
+        }
+    };
+
+    private static final String BASE_PATH = "/api/v1/tennis";
+
+    private final String key;
+
+    Route(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Name of the route in the request mix and in the report.
+     */
+    public String key() {
+        return key;
+    }
+
+    public static Route of(String key) {
+        for (Route route : values()) {
+            if (route.key.equals(key)) {
+                return route;
+            }
+        }
+        throw new IllegalArgumentException("Unknown route: " + key);
+    }
+
+    abstract HttpRequest request(URI baseUri, SequenceGenerator sequences, int batchSize, SplittableRandom random);
+
+    private static HttpRequest json(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package org.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random complete games between players {@code A} and {@code B}, with lengths drawn uniformly between two
+ * bounds.
+ * <p>
+ * A game can only last 4, 5 or 6 points, or an even number of points from 8 on once it went to deuce, so a
+ * drawn length is moved to the closest longer one. Love games are left out since a sequence must name both
+ * players, so every generated sequence scores without validation errors, which keeps the load on the scoring
+ * path rather than on error handling.
+ */
+public class SequenceGenerator {
+
+    static final int MIN_LENGTH = 5;
+
+    private final int minLength;
+    private final int maxLength;
+
+    public SequenceGenerator(int minLength, int maxLength) {
+        if (minLength < MIN_LENGTH || maxLength < minLength) {
+            throw new IllegalArgumentException("Lengths must satisfy " + MIN_LENGTH + " <= min <= max");
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    public String next(SplittableRandom random) {
+        int length = playableLength(random.nextInt(minLength, maxLength + 1));
+        char winner = random.nextBoolean() ? 'A' : 'B';
+        char loser = winner == 'A' ? 'B' : 'A';
+        char[] points = new char[length];
+        if (length <= 6) {
+            // the loser scored length - 4 of the points before the winning one, at least one
+            shuffle(points, length - 1, length - 4, winner, loser, random);
+        } else {
+            // 3-3, then one advantage and its answer per extra pair of points, then two points in a row
+            shuffle(points, 6, 3, winner, loser, random);
+            for (int i = 6; i < length - 2; i += 2) {
+                boolean winnerLeads = random.nextBoolean();
+                points[i] = winnerLeads ? winner : loser;
+                points[i + 1] = winnerLeads ? loser : winner;
+            }
+            points[length - 2] = winner;
+        }
+        points[length - 1] = winner;
+        return new String(points);
+    }
+
+    static int playableLength(int length) {
+        if (length <= 6) {
+            return length;
+        }
+        return length <= 8 ? 8 : length + (length & 1);
+    }
+
+    private static void shuffle(char[] points, int size, int losses, char winner, char loser,
+                                SplittableRandom random) {
+        for (int i = 0; i < size; i++) {
+            points[i] = i < losses ? loser : winner;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            char swap = points[i];
+            points[i] = points[j];
+            points[j] = swap;
+        }
+    }
+}
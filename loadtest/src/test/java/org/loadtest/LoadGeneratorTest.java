@@ -0,0 +1,73 @@
+package org.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    private static final byte[] BODY = "{}".getBytes(StandardCharsets.US_ASCII);
+
+    private HttpServer server;
+    private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/v1/tennis/play", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String key = path.endsWith("/batch") ? "batch" : exchange.getRequestMethod().equals("GET") ? "path" : "play";
+            hits.computeIfAbsent(key, k -> new LongAdder()).increment();
+            exchange.getRequestBody().readAllBytes();
+            // the batch route answers an error to check that failures are counted
+            exchange.sendResponseHeaders(key.equals("batch") ? 500 : 200, BODY.length);
+            exchange.getResponseBody().write(BODY);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should report every route of the mix with its errors")
+    void testReport() throws Exception {
+        // Given
+        LoadTestOptions options = LoadTestOptions.parse("--concurrency=4", "--warmup=1", "--duration=1",
+                "--mix=play:2,path:1,batch:1", "--length=5-20", "--batch-size=3", "--seed=5");
+        URI baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+
+        // When
+        LoadTestReport report = new LoadGenerator(options).run(baseUri);
+
+        // Then
+        assertEquals(3, report.routes().size(), report::toString);
+        LoadTestReport.Measurement play = report.routes().get("play");
+        LoadTestReport.Measurement batch = report.routes().get("batch");
+        assertTrue(play.requests() > 0);
+        assertEquals(0, play.errors());
+        assertEquals(batch.requests(), batch.errors());
+        assertEquals(batch.errors(), report.total().errors());
+        assertEquals(report.routes().values().stream().mapToLong(LoadTestReport.Measurement::requests).sum(),
+                report.total().requests());
+        assertTrue(report.total().p50Micros() <= report.total().p999Micros());
+        assertTrue(hits.get("play").sum() >= play.requests());
+    }
+}
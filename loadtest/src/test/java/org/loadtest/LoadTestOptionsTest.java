@@ -0,0 +1,39 @@
+package org.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestOptionsTest {
+
+    @Test
+    @DisplayName("Should parse every option")
+    void testParse() {
+        LoadTestOptions options = LoadTestOptions.parse("--url=http://localhost:8080", "--server-arg=--a=b",
+                "--concurrency=8", "--warmup=1", "--duration=2", "--mix=path:3,batch:0", "--length=8",
+                "--batch-size=4", "--seed=1");
+
+        assertEquals(URI.create("http://localhost:8080"), options.url());
+        assertEquals(List.of("--a=b"), options.serverArgs());
+        assertEquals(8, options.concurrency());
+        assertEquals(Duration.ofSeconds(2), options.duration());
+        assertEquals("path:3", options.mix().toString());
+        assertEquals(8, options.minLength());
+        assertEquals(8, options.maxLength());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid options")
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--concurrency=0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--mix=play:0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--mix=match:1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--length=2-10"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--threads=2"));
+    }
+}
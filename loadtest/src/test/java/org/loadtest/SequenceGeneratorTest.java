@@ -0,0 +1,52 @@
+package org.loadtest;
+
+import org.domain.model.GameStatus;
+import org.domain.model.Score;
+import org.domain.usecase.GameSequenceProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceGeneratorTest {
+
+    private final GameSequenceProcessor processor = new GameSequenceProcessor();
+
+    @Test
+    @DisplayName("Should generate complete games within the requested lengths")
+    void testCompleteGames() {
+        // Given
+        SequenceGenerator generator = new SequenceGenerator(5, 40);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            // When
+            String sequence = generator.next(random);
+            List<Score> scores = processor.processGameSequence(sequence);
+
+            // Then
+            assertEquals(sequence.length(), scores.size(), sequence);
+            assertEquals(GameStatus.FINISHED, scores.getLast().status(), sequence);
+            assertTrue(sequence.length() >= 5 && sequence.length() <= 40, sequence);
+        }
+    }
+
+    @Test
+    @DisplayName("Should move lengths no game can have to the next playable one")
+    void testPlayableLength() {
+        assertEquals(6, SequenceGenerator.playableLength(6));
+        assertEquals(8, SequenceGenerator.playableLength(7));
+        assertEquals(10, SequenceGenerator.playableLength(9));
+        assertEquals(10, SequenceGenerator.playableLength(10));
+    }
+
+    @Test
+    @DisplayName("Should reject lengths of love games and below")
+    void testInvalidLengths() {
+        assertThrows(IllegalArgumentException.class, () -> new SequenceGenerator(4, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SequenceGenerator(10, 8));
+    }
+}
@@ -0,0 +1,126 @@
+package org.simulation;
+
+import org.domain.model.MatchEngine;
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays random games or matches straight on {@link ScoringEngine} and {@link MatchEngine}, without building
+ * sequences.
+ * <p>
+ * The work is split in halves on a {@link ForkJoinPool} down to {@value #LEAF_SIZE} games or matches per task.
+ * Every split hands one half a {@link SplittableRandom#split()} of the parent generator, so each task draws
+ * from its own generator and the results only depend on the seed, not on the parallelism or on which worker
+ * ran which task. Leaves accumulate into their own {@link SimulationStats} which are merged while joining.
+ */
+public class MonteCarloSimulator {
+
+    static final int LEAF_SIZE = 1 << 14;
+
+    private final ForkJoinPool pool;
+
+    public MonteCarloSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @param p probability that player 1 wins each point
+     */
+    public SimulationStats simulateGames(long games, double p, long seed) {
+        long threshold = threshold(p);
+        return pool.invoke(new SimulationTask(games, new SplittableRandom(seed),
+                (random, stats) -> playGame(random, threshold, stats)));
+    }
+
+    /**
+     * @param p probability that player 1 wins each point
+     */
+    public SimulationStats simulateMatches(long matches, MatchFormat format, double p, long seed) {
+        long threshold = threshold(p);
+        MatchEngine engine = new MatchEngine(format);
+        return pool.invoke(new SimulationTask(matches, new SplittableRandom(seed),
+                (random, stats) -> playMatch(engine, random, threshold, stats)));
+    }
+
+    /**
+     * A point is won by player 1 when 53 random bits fall below {@code p * 2^53}, the same draw as
+     * {@code nextDouble() < p} without the conversion.
+     */
+    private static long threshold(double p) {
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Point win probability must be between 0 and 1");
+        }
+        return (long) (p * (1L << 53));
+    }
+
+    private static int scorer(SplittableRandom random, long threshold) {
+        return random.nextLong() >>> 11 < threshold ? ScoringEngine.PLAYER_1 : ScoringEngine.PLAYER_2;
+    }
+
+    private static void playGame(SplittableRandom random, long threshold, SimulationStats stats) {
+        int state = ScoringEngine.INITIAL;
+        int points = 0;
+        int deuces = 0;
+        while (!ScoringEngine.isFinished(state)) {
+            state = ScoringEngine.next(state, scorer(random, threshold));
+            points++;
+            if (ScoringEngine.stateId(state) == ScoringEngine.DEUCE) {
+                deuces++;
+            }
+        }
+        stats.record(ScoringEngine.winner(state) == ScoringEngine.PLAYER_1, points, deuces);
+    }
+
+    private static void playMatch(MatchEngine engine, SplittableRandom random, long threshold, SimulationStats stats) {
+        long state = MatchEngine.INITIAL;
+        int points = 0;
+        int deuces = 0;
+        while (!MatchEngine.isFinished(state)) {
+            state = engine.next(state, scorer(random, threshold));
+            points++;
+            if (!MatchEngine.isTieBreak(state) && MatchEngine.points(state, ScoringEngine.PLAYER_1) == 3
+                    && MatchEngine.points(state, ScoringEngine.PLAYER_2) == 3) {
+                deuces++;
+            }
+        }
+        stats.record(MatchEngine.winner(state) == ScoringEngine.PLAYER_1, points, deuces);
+    }
+
+    @FunctionalInterface
+    private interface Trial {
+        void play(SplittableRandom random, SimulationStats stats);
+    }
+
+    private static final class SimulationTask extends RecursiveTask<SimulationStats> {
+
+        private final long count;
+        private final SplittableRandom random;
+        private final Trial trial;
+
+        private SimulationTask(long count, SplittableRandom random, Trial trial) {
+            this.count = count;
+            this.random = random;
+            this.trial = trial;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (count <= LEAF_SIZE) {
+                SimulationStats stats = new SimulationStats();
+                for (long i = 0; i < count; i++) {
+                    trial.play(random, stats);
+                }
+                return stats;
+            }
+            long half = count >>> 1;
+            SimulationTask left = new SimulationTask(half, random.split(), trial);
+            left.fork();
+            SimulationStats right = new SimulationTask(count - half, random, trial).compute();
+            return right.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Monte Carlo simulation of games or matches between two players of fixed point win probability.
+ * <p>
+ * Usage: {@code java -jar simulation/target/tennis-simulation.jar [--count=N] [--p=PROBABILITY]
+ * [--match[=BEST_OF]] [--no-advantage] [--no-final-set-tie-break] [--threads=N] [--seed=SEED]}
+ */
+public class SimulationApp {
+
+    public static void main(String[] args) {
+        SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(SimulationOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try {
+            MonteCarloSimulator simulator = new MonteCarloSimulator(pool);
+            long start = System.nanoTime();
+            SimulationStats stats = options.format() == null
+                    ? simulator.simulateGames(options.count(), options.p(), options.seed())
+                    : simulator.simulateMatches(options.count(), options.format(), options.p(), options.seed());
+            long elapsedNanos = System.nanoTime() - start;
+
+            String unit = options.format() == null ? "game" : "match";
+            String units = options.format() == null ? "games" : "matches";
+            System.out.printf("Simulated %d %s, %d points in %d ms (%.1f M points/s, seed %d)%n", stats.played(), units,
+                    stats.points(), elapsedNanos / 1_000_000, stats.points() * 1e3 / elapsedNanos, options.seed());
+            System.out.printf("Player 1 win rate: %.6f%n", stats.player1WinRate());
+            System.out.printf("Length in points: mean %.3f, p50 %d, p99 %d, p99.9 %d%n", stats.meanLength(),
+                    stats.lengthPercentile(0.5), stats.lengthPercentile(0.99), stats.lengthPercentile(0.999));
+            System.out.printf("Reached deuce: %.6f, deuces per %s: %.4f%n", stats.deuceRate(), unit,
+                    (double) stats.deuces() / stats.played());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.simulation;
+
+import org.domain.model.MatchFormat;
+
+/**
+ * Command line options of {@link SimulationApp}.
+ *
+ * @param count  number of games, or of matches when {@code format} is set
+ * @param p      probability that player 1 wins each point
+ * @param format format of the simulated matches, {@code null} to simulate single games
+ */
+public record SimulationOptions(long count, double p, MatchFormat format, int threads, long seed) {
+
+    public static final long DEFAULT_COUNT = 100_000_000L;
+
+    static final String USAGE = "Usage: java -jar tennis-simulation.jar [--count=N] [--p=PROBABILITY] "
+            + "[--match[=BEST_OF]] [--no-advantage] [--no-final-set-tie-break] [--threads=N] [--seed=SEED]";
+
+    public SimulationOptions {
+        if (count < 1) {
+            throw new IllegalArgumentException("Count must be at least 1");
+        }
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Point win probability must be between 0 and 1");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least 1");
+        }
+    }
+
+    public static SimulationOptions parse(String... args) {
+        long count = DEFAULT_COUNT;
+        double p = 0.5;
+        Integer bestOf = null;
+        boolean advantage = true;
+        boolean finalSetTieBreak = true;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        for (String arg : args) {
+            if (arg.startsWith("--count=")) {
+                count = parseLong(arg, "--count=");
+            } else if (arg.startsWith("--p=")) {
+                p = parseDouble(arg, "--p=");
+            } else if (arg.equals("--match")) {
+                bestOf = MatchFormat.BEST_OF_3.bestOf();
+            } else if (arg.startsWith("--match=")) {
+                bestOf = (int) parseLong(arg, "--match=");
+            } else if (arg.equals("--no-advantage")) {
+                advantage = false;
+            } else if (arg.equals("--no-final-set-tie-break")) {
+                finalSetTieBreak = false;
+            } else if (arg.startsWith("--threads=")) {
+                threads = (int) parseLong(arg, "--threads=");
+            } else if (arg.startsWith("--seed=")) {
+                seed = parseLong(arg, "--seed=");
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        MatchFormat format = null;
+        if (bestOf != null) {
+            try {
+                format = new MatchFormat(bestOf, advantage, finalSetTieBreak);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(e.getMessage());
+            }
+        }
+        return new SimulationOptions(count, p, format, threads, seed);
+    }
+
+    private static long parseLong(String arg, String prefix) {
+        try {
+            return Long.parseLong(arg.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in option: " + arg);
+        }
+    }
+
+    private static double parseDouble(String arg, String prefix) {
+        try {
+            return Double.parseDouble(arg.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in option: " + arg);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Outcome distribution of simulated games or matches.
+ * <p>
+ * Each simulation task fills its own instance without any synchronization, and the instances are merged once
+ * the tasks complete.
+ */
+public final class SimulationStats {
+
+    /** Lengths from this number of points on share the last histogram bucket. */
+    public static final int MAX_TRACKED_LENGTH = 1023;
+
+    private long played;
+    private long player1Wins;
+    private long points;
+    private long reachedDeuce;
+    private long deuces;
+    private final long[] lengths = new long[MAX_TRACKED_LENGTH + 1];
+
+    void record(boolean player1Won, int length, int deuces) {
+        played++;
+        if (player1Won) {
+            player1Wins++;
+        }
+        points += length;
+        if (deuces > 0) {
+            reachedDeuce++;
+            this.deuces += deuces;
+        }
+        lengths[Math.min(length, MAX_TRACKED_LENGTH)]++;
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        played += other.played;
+        player1Wins += other.player1Wins;
+        points += other.points;
+        reachedDeuce += other.reachedDeuce;
+        deuces += other.deuces;
+        for (int length = 0; length <= MAX_TRACKED_LENGTH; length++) {
+            lengths[length] += other.lengths[length];
+        }
+        return this;
+    }
+
+    /**
+     * Number of games or matches simulated.
+     */
+    public long played() {
+        return played;
+    }
+
+    public long player1Wins() {
+        return player1Wins;
+    }
+
+    public double player1WinRate() {
+        return played == 0 ? 0 : (double) player1Wins / played;
+    }
+
+    /**
+     * Total number of points played.
+     */
+    public long points() {
+        return points;
+    }
+
+    public double meanLength() {
+        return played == 0 ? 0 : (double) points / played;
+    }
+
+    /**
+     * Number of games or matches that reached deuce at least once.
+     */
+    public long reachedDeuce() {
+        return reachedDeuce;
+    }
+
+    public double deuceRate() {
+        return played == 0 ? 0 : (double) reachedDeuce / played;
+    }
+
+    /**
+     * Total number of times the score went to deuce, returns from advantage included.
+     */
+    public long deuces() {
+        return deuces;
+    }
+
+    /**
+     * @return the number of games or matches that lasted {@code length} points, or at least
+     * {@value #MAX_TRACKED_LENGTH} points for the last bucket
+     */
+    public long lengthCount(int length) {
+        return lengths[Math.min(length, MAX_TRACKED_LENGTH)];
+    }
+
+    /**
+     * @param quantile between 0 and 1
+     * @return the smallest length such that at least {@code quantile} of the games or matches were not longer
+     */
+    public int lengthPercentile(double quantile) {
+        long rank = (long) Math.ceil(quantile * played);
+        long seen = 0;
+        for (int length = 0; length <= MAX_TRACKED_LENGTH; length++) {
+            seen += lengths[length];
+            if (seen >= rank && seen > 0) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationStats{played=" + played + ", player1Wins=" + player1Wins + ", points=" + points
+                + ", reachedDeuce=" + reachedDeuce + ", deuces=" + deuces
+                + ", lengths=" + Arrays.stream(lengths).filter(count -> count > 0).count() + " distinct}";
+    }
+}
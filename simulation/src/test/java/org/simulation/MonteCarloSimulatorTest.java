@@ -0,0 +1,118 @@
+package org.simulation;
+
+import org.domain.model.MatchFormat;
+import org.domain.model.ScoringEngine;
+import org.domain.usecase.WinProbabilityQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulatorTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final MonteCarloSimulator simulator = new MonteCarloSimulator(pool);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Games")
+    class Games {
+
+        @Test
+        @DisplayName("Should always be won to love by a player winning every point")
+        void testCertainWin() {
+            // When
+            SimulationStats stats = simulator.simulateGames(100_000, 1, 1);
+
+            // Then
+            assertEquals(100_000, stats.player1Wins());
+            assertEquals(400_000, stats.points());
+            assertEquals(100_000, stats.lengthCount(4));
+            assertEquals(0, stats.reachedDeuce());
+        }
+
+        @Test
+        @DisplayName("Should converge to the exact win and deuce probabilities")
+        void testDistribution() {
+            // Given
+            double p = 0.55;
+            int games = 1_000_000;
+
+            // When
+            SimulationStats stats = simulator.simulateGames(games, p, 42);
+
+            // Then 20 of the 64 ways to play the first six points end at 3-3
+            double expectedDeuce = 20 * Math.pow(p * (1 - p), 3);
+            double expectedWin = new WinProbabilityQuery(1001).gameWinProbability(ScoringEngine.INITIAL, p);
+            assertEquals(expectedWin, stats.player1WinRate(), 0.003);
+            assertEquals(expectedDeuce, stats.deuceRate(), 0.003);
+            assertEquals(games, stats.played());
+            assertEquals(4, stats.lengthPercentile(0.01));
+        }
+
+        @Test
+        @DisplayName("Should only depend on the seed, not on the parallelism")
+        void testReproducible() {
+            ForkJoinPool single = new ForkJoinPool(1);
+            try {
+                // When
+                SimulationStats parallel = simulator.simulateGames(200_000, 0.5, 7);
+                SimulationStats sequential = new MonteCarloSimulator(single).simulateGames(200_000, 0.5, 7);
+
+                // Then
+                assertEquals(sequential.player1Wins(), parallel.player1Wins());
+                assertEquals(sequential.points(), parallel.points());
+                assertEquals(sequential.deuces(), parallel.deuces());
+            } finally {
+                single.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject probabilities outside [0, 1]")
+        void testInvalidProbability() {
+            assertThrows(IllegalArgumentException.class, () -> simulator.simulateGames(10, -0.1, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Matches")
+    class Matches {
+
+        @Test
+        @DisplayName("Should play the shortest match for a player winning every point")
+        void testCertainWin() {
+            // When
+            SimulationStats stats = simulator.simulateMatches(10_000, MatchFormat.BEST_OF_5, 1, 1);
+
+            // Then
+            assertEquals(1, stats.player1WinRate());
+            assertEquals(72, stats.lengthPercentile(1));
+            assertEquals(72, stats.lengthPercentile(0));
+        }
+
+        @Test
+        @DisplayName("Should converge to the exact match win probability")
+        void testDistribution() {
+            // Given
+            double p = 0.51;
+            MatchFormat format = new MatchFormat(3, true, false);
+
+            // When
+            SimulationStats stats = simulator.simulateMatches(200_000, format, p, 3);
+
+            // Then
+            double expected = new WinProbabilityQuery(101).matchWinProbability(format, 0, p);
+            assertEquals(expected, stats.player1WinRate(), 0.005);
+            assertTrue(stats.deuces() > stats.reachedDeuce());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.simulation;
+
+import org.domain.model.MatchFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationOptionsTest {
+
+    @Test
+    @DisplayName("Should parse match options")
+    void testParse() {
+        SimulationOptions options = SimulationOptions.parse("--count=1000", "--p=0.6", "--match=5", "--no-advantage",
+                "--threads=2", "--seed=9");
+
+        assertEquals(new SimulationOptions(1000, 0.6, new MatchFormat(5, false, true), 2, 9), options);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid options")
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> SimulationOptions.parse("--p=2"));
+        assertThrows(IllegalArgumentException.class, () -> SimulationOptions.parse("--match=4"));
+        assertThrows(IllegalArgumentException.class, () -> SimulationOptions.parse("--games=10"));
+    }
+}